@@ -1,18 +1,23 @@
 package botanic;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import botanic.command.ByeCommand;
 import botanic.command.Command;
 import botanic.exception.BotanicException;
 import botanic.gui.Gui;
 import botanic.parser.Parser;
 import botanic.storage.Storage;
-import botanic.task.Task;
 import botanic.task.TaskList;
-import botanic.task.ToDo;
 
 /**
  * Encapsulates the related fields and behavior of Botanic.
  */
 public class Botanic {
+    /** The most failed commands of a batch that are listed in its summary. */
+    private static final int MAX_LISTED_FAILURES = 10;
+
     //@@author HmuuMyatMoe-reused
     //Reused from https://nus-cs2103-ay2223s2.github.io/website/admin/ip-w3.html
     //with minor modifications
@@ -20,6 +25,7 @@ public class Botanic {
     private TaskList tasks;
     private Gui gui;
     private Parser parser;
+    private boolean isEnded = false;
 
     /**
      * Instantiates the Botanic program.
@@ -32,7 +38,7 @@ public class Botanic {
         gui = new Gui();
         parser = new Parser();
         try {
-            tasks = new TaskList(storage.read());
+            tasks = TaskList.fromStorage(storage.readLazily());
         } catch (BotanicException e) {
             tasks = new TaskList();
             e.printStackTrace();
@@ -51,11 +57,10 @@ public class Botanic {
 
     /**
      * Stores the tasks in a file in hard drive.
+     * The tasks are written from a snapshot of the list, so the list is neither copied nor locked while writing.
      */
     public void store() {
-        Task[] tempTasks = { new ToDo("a") };
-        storage.writeToFile(
-                tasks.getTaskList().toArray(tempTasks));
+        storage.writeToFile(tasks.snapshot());
     }
 
     /**
@@ -79,4 +84,97 @@ public class Botanic {
         }
         //@@author
     }
+
+    /**
+     * Parses the user input to get a Command without executing it,
+     * so that the window can check the input before handing the Command to a background thread.
+     *
+     * @param input The user input read.
+     * @return The Command given by the user input.
+     * @throws BotanicException If the user input is not a valid command.
+     */
+    public Command parse(String input) throws BotanicException {
+        return parser.parseCommand(input);
+    }
+
+    /**
+     * Executes the given Command and returns Botanic's response.
+     * Catches and handles BotanicException if there is any thrown.
+     *
+     * @param cmd The Command to execute.
+     * @return A string representing Botanic's response to the Command.
+     */
+    public String getResponse(Command cmd) {
+        try {
+            return cmd.execute(tasks, storage, gui);
+        } catch (BotanicException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Runs the given lines as one batch of commands and returns a summary of the batch,
+     * instead of a response for each command.
+     * The lines are parsed in parallel, then the commands are executed in the order of the lines,
+     * and the changes they make are committed to storage together once all of them have run,
+     * as one append to the journal or, for a batch large enough to fill the journal, as one write of the whole list.
+     * Blank lines are skipped, and a bye command ends the batch, so the lines after it are not run.
+     *
+     * @param inputs The lines of the batch, one command per line.
+     * @return A string summarizing how many commands ran and which of them failed.
+     */
+    public String getBatchResponse(List<String> inputs) {
+        return getBatchResponse(inputs, 1);
+    }
+
+    /**
+     * Runs the given lines as one batch of commands and returns a summary of the batch,
+     * numbering the lines of failed commands from the given number, for a batch taken from a longer input.
+     *
+     * @param inputs The lines of the batch, one command per line.
+     * @param firstLineNumber The number of the first line of the batch in the input.
+     * @return A string summarizing how many commands ran and which of them failed,
+     *     followed by the goodbye message if a bye command ended the batch.
+     */
+    public String getBatchResponse(List<String> inputs, int firstLineNumber) {
+        List<Command> cmds = parser.parseCommands(inputs);
+        int commandCount = 0;
+        int failedCount = 0;
+        List<String> failures = new ArrayList<>();
+        storage.beginBatch();
+        try {
+            for (int i = 0; i < cmds.size(); i++) {
+                Command cmd = cmds.get(i);
+                if (cmd == null) {
+                    continue;
+                }
+                if (cmd instanceof ByeCommand) {
+                    isEnded = true;
+                    break;
+                }
+                commandCount++;
+                try {
+                    cmd.executeInBatch(tasks, storage, gui);
+                } catch (BotanicException e) {
+                    failedCount++;
+                    if (failures.size() < MAX_LISTED_FAILURES) {
+                        failures.add(gui.getBatchFailure(firstLineNumber + i, e.getReason()));
+                    }
+                }
+            }
+        } finally {
+            storage.commitBatch(tasks::snapshot);
+        }
+        String summary = gui.getBatchSummaryMsg(commandCount, failedCount, failures, tasks.size());
+        return isEnded ? summary + gui.getBye() : summary;
+    }
+
+    /**
+     * Returns whether a batch has reached a bye command, after which no more commands should be run.
+     *
+     * @return True if a bye command ended a batch, false otherwise.
+     */
+    public boolean isEnded() {
+        return isEnded;
+    }
 }
@@ -0,0 +1,143 @@
+package botanic;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import botanic.command.ByeCommand;
+import botanic.command.Command;
+import botanic.exception.BotanicException;
+
+/**
+ * Encapsulation of a launcher class that runs Botanic without a window.
+ * Commands are read one per line from a file, or from the standard input if no file is given,
+ * and each response is written to the standard output followed by a blank line.
+ * No JavaFX class is loaded, so it starts quickly, needs no display and suits scripts and scheduled jobs.
+ * Reading stops at the end of the input or after a bye command, and the tasks are stored before exiting.
+ * With {@value #BATCH_FLAG} before the file, the commands are run in batches instead,
+ * and a summary is written for each batch.
+ */
+public class Cli {
+    /** The argument that runs the commands in batches. */
+    static final String BATCH_FLAG = "--batch";
+    /** The size in chars of the buffers that the commands are read through and the responses written through. */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** The most commands in a batch, which bounds the lines held in memory at once. */
+    private static final int MAX_BATCH_LINES = 1 << 16;
+
+    /**
+     * Runs the commands in the given file, or in the standard input if no file is given.
+     *
+     * @param args {@value #BATCH_FLAG} to run the commands in batches, if wanted,
+     *             followed by the path to a file of commands, if any.
+     */
+    public static void main(String... args) {
+        boolean isBatch = args.length > 0 && args[0].equals(BATCH_FLAG);
+        int fileArg = isBatch ? 1 : 0;
+        Botanic botanic = new Botanic("./botanicData", "BotanicList.txt");
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                args.length > fileArg ? new FileInputStream(args[fileArg]) : new FileInputStream(FileDescriptor.in),
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            if (isBatch) {
+                runBatches(botanic, in, out);
+            } else {
+                run(botanic, in, out);
+            }
+        } catch (IOException e) {
+            System.out.println("Unable to run commands.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Greets the user, then runs each command read and writes its response,
+     * until the end of the input or a bye command. Blank lines are skipped.
+     * The responses are only flushed when the buffer fills or the commands run out,
+     * so writing them costs no more than a system call per buffer.
+     *
+     * @param botanic The Botanic instance that executes the commands.
+     * @param in The reader of the commands, one per line.
+     * @param out The writer of the responses.
+     * @throws IOException If the commands cannot be read or the responses cannot be written.
+     */
+    static void run(Botanic botanic, BufferedReader in, Writer out) throws IOException {
+        writeResponse(out, botanic.getWelcome());
+        String input;
+        while ((input = in.readLine()) != null) {
+            if (input.isBlank()) {
+                continue;
+            }
+            Command cmd;
+            try {
+                cmd = botanic.parse(input);
+            } catch (BotanicException e) {
+                writeResponse(out, e.getMessage());
+                continue;
+            }
+            writeResponse(out, botanic.getResponse(cmd));
+            if (cmd instanceof ByeCommand) {
+                out.flush();
+                return;
+            }
+        }
+        botanic.store();
+        out.flush();
+    }
+
+    /**
+     * Greets the user, then reads the commands in batches of up to {@value #MAX_BATCH_LINES} lines
+     * and writes a summary of each batch, until the end of the input or a bye command.
+     * The commands after a bye command are not run, even if they are in the same batch.
+     * Each batch is committed to storage once, so nothing is left to store at the end.
+     *
+     * @param botanic The Botanic instance that executes the commands.
+     * @param in The reader of the commands, one per line.
+     * @param out The writer of the summaries.
+     * @throws IOException If the commands cannot be read or the summaries cannot be written.
+     */
+    static void runBatches(Botanic botanic, BufferedReader in, Writer out) throws IOException {
+        writeResponse(out, botanic.getWelcome());
+        List<String> batch = new ArrayList<>();
+        int firstLineNumber = 1;
+        String input;
+        while ((input = in.readLine()) != null) {
+            batch.add(input);
+            if (batch.size() == MAX_BATCH_LINES) {
+                writeResponse(out, botanic.getBatchResponse(batch, firstLineNumber));
+                if (botanic.isEnded()) {
+                    out.flush();
+                    return;
+                }
+                firstLineNumber += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeResponse(out, botanic.getBatchResponse(batch, firstLineNumber));
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the given response followed by a blank line.
+     *
+     * @param out The writer of the responses.
+     * @param response Botanic's response.
+     * @throws IOException If the response cannot be written.
+     */
+    private static void writeResponse(Writer out, String response) throws IOException {
+        out.write(response);
+        out.write(response.endsWith("\n") ? "\n" : "\n\n");
+    }
+}
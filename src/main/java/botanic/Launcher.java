@@ -3,6 +3,8 @@ package botanic;
 //@@author HmuuMyatMoe-reused
 //Reused from https://se-education.org/guides/tutorials/javaFxPart1.html
 //with minor modifications
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -10,12 +12,21 @@ import javafx.application.Application;
  * the starting point of our application.
  */
 public class Launcher {
+    /** The argument that runs the commands from a file or the standard input instead of opening the window. */
+    private static final String CLI_FLAG = "--cli";
+
     /**
      * Starts the application.
+     * If the first argument is {@value #CLI_FLAG}, runs without a window through {@link Cli} instead,
+     * passing it the rest of the arguments.
      *
      * @param args A string array of arguments from the command line.
      */
     public static void main(String... args) {
+        if (args.length > 0 && args[0].equals(CLI_FLAG)) {
+            Cli.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
@@ -6,7 +6,9 @@ package botanic;
 
 import java.io.IOException;
 
+import botanic.gui.CommandRunner;
 import botanic.gui.MainWindow;
+import botanic.gui.TranscriptArchive;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -19,6 +21,8 @@ import javafx.stage.Stage;
 public class Main extends Application {
 
     private Botanic botanic;
+    private TranscriptArchive archive;
+    private CommandRunner runner;
 
     /**
      * Stages the primary stage onto the screen, this is the starting point of the application.
@@ -29,13 +33,15 @@ public class Main extends Application {
     public void start(Stage stage) {
         try {
             botanic = new Botanic("./botanicData", "BotanicList.txt");
+            archive = new TranscriptArchive("./botanicData", "BotanicTranscript.txt");
+            runner = new CommandRunner(botanic);
             FXMLLoader fxmlLoader = new FXMLLoader(
                     Main.class.getResource("/view/MainWindow.fxml"));
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setScene(scene);
             stage.setTitle("BOTanic");
-            fxmlLoader.<MainWindow>getController().setBotanic(botanic);
+            fxmlLoader.<MainWindow>getController().setBotanic(botanic, archive, runner);
             stage.show();
         } catch (IOException e) {
             e.printStackTrace();
@@ -44,11 +50,14 @@ public class Main extends Application {
 
     /**
      * Stops the entire application and stores data of the tasks in the local hard drive
-     * upon exiting the application.
+     * upon exiting the application, along with the messages still being moved to the transcript file.
+     * A command still running is let finish first, so that its changes are stored too.
      */
     @Override
     public void stop() {
+        runner.close();
         botanic.store();
+        archive.close();
     }
 }
 //@@author
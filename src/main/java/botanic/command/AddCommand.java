@@ -22,7 +22,7 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Adds the given task into the taskList.
+     * Adds the given task into the taskList and records the addition in storage.
      *
      * @param tasks The TaskList of tasks.
      * @param storage The class that reads and write program data to hard drive.
@@ -31,6 +31,21 @@ public class AddCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        return tasks.add(task);
+        String response = tasks.add(task);
+        storage.journalAdd(task);
+        return response;
+    }
+
+    /**
+     * Adds the given task into the taskList without building a response, and records the addition in storage.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     */
+    @Override
+    public void executeInBatch(TaskList tasks, Storage storage, Gui gui) {
+        tasks.addQuietly(task);
+        storage.journalAdd(task);
     }
 }
@@ -2,9 +2,7 @@ package botanic.command;
 
 import botanic.gui.Gui;
 import botanic.storage.Storage;
-import botanic.task.Task;
 import botanic.task.TaskList;
-import botanic.task.ToDo;
 
 /**
  * Encapsulates the related fields and behavior of the command to exit the program.
@@ -20,8 +18,7 @@ public class ByeCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        Task[] tempTasks = { new ToDo("a") };
-        storage.writeToFile(tasks.getTaskList().toArray(tempTasks));
+        storage.writeToFile(tasks.snapshot());
         return gui.getBye();
     }
 }
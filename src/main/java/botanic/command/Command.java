@@ -19,4 +19,28 @@ public abstract class Command {
      * @throws BotanicException If task is not executed successfully.
      */
     public abstract String execute(TaskList tasks, Storage storage, Gui gui) throws BotanicException;
+
+    /**
+     * Executes the command as part of a batch, whose responses are summarized instead of shown.
+     * By default, the command is executed and its response dropped,
+     * and commands that can skip building their response override this.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @throws BotanicException If task is not executed successfully.
+     */
+    public void executeInBatch(TaskList tasks, Storage storage, Gui gui) throws BotanicException {
+        execute(tasks, storage, gui);
+    }
+
+    /**
+     * Returns whether the command only reads the tasks.
+     * Such a command can be stopped partway, as it leaves neither the list nor the storage file half changed.
+     *
+     * @return True if the command does not change the tasks, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
@@ -21,7 +21,7 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Deletes the task at the given index.
+     * Deletes the task at the given index and records the deletion in storage.
      *
      * @param tasks The TaskList of tasks.
      * @param storage The class that reads and write program data to hard drive.
@@ -31,6 +31,8 @@ public class DeleteCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) throws BotanicException {
-        return tasks.delete(index);
+        String response = tasks.delete(index);
+        storage.journalDelete(index);
+        return response;
     }
 }
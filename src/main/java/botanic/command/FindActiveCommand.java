@@ -0,0 +1,52 @@
+package botanic.command;
+
+import java.time.LocalDate;
+
+import botanic.gui.Gui;
+import botanic.storage.Storage;
+import botanic.task.Page;
+import botanic.task.TaskList;
+
+/**
+ * Encapsulates the related fields and behavior
+ * of a command to find the events happening on the given date.
+ */
+public class FindActiveCommand extends Command {
+    private LocalDate date;
+    private Page page;
+
+    /**
+     * Instantiates FindActiveCommand.
+     *
+     * @param date The date to find the events happening on.
+     * @param page The page of the results to print.
+     */
+    public FindActiveCommand(LocalDate date, Page page) {
+        this.date = date;
+        this.page = page;
+    }
+
+    /**
+     * Finds the events with date ranges
+     * that include the given date.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @return The list of matching tasks found.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage, Gui gui) {
+        return tasks.findActive(date, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
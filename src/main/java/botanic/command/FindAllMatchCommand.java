@@ -2,6 +2,7 @@ package botanic.command;
 
 import botanic.gui.Gui;
 import botanic.storage.Storage;
+import botanic.task.Page;
 import botanic.task.TaskList;
 
 /**
@@ -11,14 +12,17 @@ import botanic.task.TaskList;
  */
 public class FindAllMatchCommand extends Command {
     private String keyword;
+    private Page page;
 
     /**
      * Instantiates FindAllMatchCommand.
      *
      * @param keyword The keyword to search for in the list of tasks.
+     * @param page The page of the results to print.
      */
-    public FindAllMatchCommand(String keyword) {
+    public FindAllMatchCommand(String keyword, Page page) {
         this.keyword = keyword;
+        this.page = page;
     }
 
     /**
@@ -32,6 +36,16 @@ public class FindAllMatchCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        return tasks.findAllMatch(keyword);
+        return tasks.findAllMatch(keyword, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
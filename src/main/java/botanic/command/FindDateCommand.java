@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import botanic.gui.Gui;
 import botanic.storage.Storage;
+import botanic.task.Page;
 import botanic.task.TaskList;
 
 /**
@@ -12,14 +13,17 @@ import botanic.task.TaskList;
  */
 public class FindDateCommand extends Command {
     private LocalDate dateToFind;
+    private Page page;
 
     /**
      * Instantiates FlexFindCommand.
      *
      * @param dateToFind The date to search for in the list of tasks.
+     * @param page The page of the results to print.
      */
-    public FindDateCommand(LocalDate dateToFind) {
+    public FindDateCommand(LocalDate dateToFind, Page page) {
         this.dateToFind = dateToFind;
+        this.page = page;
     }
 
     /**
@@ -33,6 +37,16 @@ public class FindDateCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        return tasks.findDate(dateToFind);
+        return tasks.findDate(dateToFind, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
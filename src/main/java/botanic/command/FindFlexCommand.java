@@ -2,6 +2,7 @@ package botanic.command;
 
 import botanic.gui.Gui;
 import botanic.storage.Storage;
+import botanic.task.Page;
 import botanic.task.TaskList;
 
 /**
@@ -11,14 +12,17 @@ import botanic.task.TaskList;
  */
 public class FindFlexCommand extends Command {
     private String keyword;
+    private Page page;
 
     /**
      * Instantiates FlexFindCommand.
      *
      * @param keyword The keyword to search for in the list of tasks.
+     * @param page The page of the results to print.
      */
-    public FindFlexCommand(String keyword) {
+    public FindFlexCommand(String keyword, Page page) {
         this.keyword = keyword;
+        this.page = page;
     }
 
     /**
@@ -32,6 +36,16 @@ public class FindFlexCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        return tasks.findFlexibly(keyword);
+        return tasks.findFlexibly(keyword, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
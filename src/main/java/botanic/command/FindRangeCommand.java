@@ -0,0 +1,55 @@
+package botanic.command;
+
+import java.time.LocalDate;
+
+import botanic.gui.Gui;
+import botanic.storage.Storage;
+import botanic.task.Page;
+import botanic.task.TaskList;
+
+/**
+ * Encapsulates the related fields and behavior
+ * of a command to find tasks with dates between the given dates.
+ */
+public class FindRangeCommand extends Command {
+    private LocalDate from;
+    private LocalDate to;
+    private Page page;
+
+    /**
+     * Instantiates FindRangeCommand.
+     *
+     * @param from The earliest date to search for in the list of tasks.
+     * @param to The latest date to search for in the list of tasks.
+     * @param page The page of the results to print.
+     */
+    public FindRangeCommand(LocalDate from, LocalDate to, Page page) {
+        this.from = from;
+        this.to = to;
+        this.page = page;
+    }
+
+    /**
+     * Finds the tasks with dates
+     * that fall between the given dates (inclusive).
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @return The list of matching tasks found.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage, Gui gui) {
+        return tasks.findRange(from, to, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -2,22 +2,44 @@ package botanic.command;
 
 import botanic.gui.Gui;
 import botanic.storage.Storage;
+import botanic.task.Page;
 import botanic.task.TaskList;
 
 /**
  * Encapsulates the related fields and behavior of the command to list out all tasks.
  */
 public class ListCommand extends Command {
+    private Page page;
+
+    /**
+     * Instantiates ListCommand.
+     *
+     * @param page The page of the list to print.
+     */
+    public ListCommand(Page page) {
+        this.page = page;
+    }
+
     /**
-     * Prints out all tasks in the list.
+     * Prints out the tasks on the page of the list.
      *
      * @param tasks The TaskList of tasks.
      * @param storage The class that reads and write program data to hard drive.
      * @param gui The class that handles interaction with the users.
-     * @return A string representation of the list of all the tasks.
+     * @return A string representation of the tasks on the page.
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) {
-        return tasks.print();
+        return tasks.print(page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
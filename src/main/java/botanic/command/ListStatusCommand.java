@@ -0,0 +1,49 @@
+package botanic.command;
+
+import botanic.gui.Gui;
+import botanic.storage.Storage;
+import botanic.task.Page;
+import botanic.task.TaskList;
+
+/**
+ * Encapsulates the related fields and behavior of the command to list out
+ * the tasks that are done or the tasks that are pending.
+ */
+public class ListStatusCommand extends Command {
+    private boolean isDone;
+    private Page page;
+
+    /**
+     * Instantiates ListStatusCommand.
+     *
+     * @param isDone True to list the done tasks, false to list the pending tasks.
+     * @param page The page of the tasks to print.
+     */
+    public ListStatusCommand(boolean isDone, Page page) {
+        this.isDone = isDone;
+        this.page = page;
+    }
+
+    /**
+     * Prints out the tasks in the list with the status given.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @return A string representation of the list of tasks with the status.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage, Gui gui) {
+        return tasks.printByStatus(isDone, page);
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
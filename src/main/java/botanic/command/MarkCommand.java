@@ -20,7 +20,7 @@ public class MarkCommand extends Command {
     }
 
     /**
-     * Marks the task at the given index as done.
+     * Marks the task at the given index as done and records the change in storage.
      *
      * @param tasks The TaskList of tasks.
      * @param storage The class that reads and write program data to hard drive.
@@ -30,6 +30,8 @@ public class MarkCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) throws BotanicException {
-        return tasks.markIsDone(index);
+        String response = tasks.markIsDone(index);
+        storage.journalMark(index);
+        return response;
     }
 }
@@ -0,0 +1,48 @@
+package botanic.command;
+
+import botanic.exception.BotanicException;
+import botanic.gui.Gui;
+import botanic.storage.Storage;
+import botanic.task.TaskList;
+
+/**
+ * Encapsulates the related fields and behavior of a command that could not be parsed.
+ * It holds the error found while parsing, so that a batch of commands parsed ahead of time
+ * reports the error when the command's turn comes, in the order of the batch.
+ */
+public class ParseErrorCommand extends Command {
+    private BotanicException error;
+
+    /**
+     * Instantiates ParseErrorCommand.
+     *
+     * @param error The error found while parsing the command.
+     */
+    public ParseErrorCommand(BotanicException error) {
+        this.error = error;
+    }
+
+    /**
+     * Throws the error found while parsing the command.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @return Nothing, as the error is always thrown.
+     * @throws BotanicException The error found while parsing the command.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage, Gui gui) throws BotanicException {
+        throw error;
+    }
+
+    /**
+     * Returns true, as this command does not change the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package botanic.command;
+
+import botanic.gui.Gui;
+import botanic.storage.Storage;
+import botanic.task.TaskList;
+
+/**
+ * Encapsulates the related fields and behavior of the command to count the done and pending tasks.
+ */
+public class StatsCommand extends Command {
+    /**
+     * Counts the tasks in the list that are done and pending.
+     *
+     * @param tasks The TaskList of tasks.
+     * @param storage The class that reads and write program data to hard drive.
+     * @param gui The class that handles interaction with the users.
+     * @return A string message with the counts.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage, Gui gui) {
+        return tasks.getStats();
+    }
+
+    /**
+     * Returns true, as this command only reads the tasks.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
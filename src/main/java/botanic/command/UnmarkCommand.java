@@ -22,7 +22,7 @@ public class UnmarkCommand extends Command {
     }
 
     /**
-     * Marks the task at the given index as not done.
+     * Marks the task at the given index as not done and records the change in storage.
      *
      * @param tasks The TaskList of tasks.
      * @param storage The class that reads and write program data to hard drive.
@@ -32,6 +32,8 @@ public class UnmarkCommand extends Command {
      */
     @Override
     public String execute(TaskList tasks, Storage storage, Gui gui) throws BotanicException {
-        return tasks.unmarkIsDone(index);
+        String response = tasks.unmarkIsDone(index);
+        storage.journalUnmark(index);
+        return response;
     }
 }
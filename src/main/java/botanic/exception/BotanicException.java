@@ -4,6 +4,8 @@ package botanic.exception;
  * Encapsulates the related fields and behavior of an exception specific to Botanic.
  */
 public class BotanicException extends Exception {
+    private final String reason;
+
     /**
      * Instantiates BotanicException.
      *
@@ -11,6 +13,16 @@ public class BotanicException extends Exception {
      */
     public BotanicException(String message) {
         super("Oh noes! " + message + "\nPlease try again.");
+        this.reason = message;
+    }
+
+    /**
+     * Returns the error message without the lines around it, for listing several errors together.
+     *
+     * @return The error message given.
+     */
+    public String getReason() {
+        return reason;
     }
 
     /**
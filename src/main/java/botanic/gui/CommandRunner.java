@@ -0,0 +1,133 @@
+package botanic.gui;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import botanic.Botanic;
+import botanic.command.Command;
+import javafx.application.Platform;
+
+/**
+ * Encapsulates the related fields and behavior of running commands away from the JavaFX Application Thread,
+ * so that a long search or list does not freeze the window.
+ * Commands run one at a time, in the order given, on a single background thread,
+ * and each response is handed back on the JavaFX Application Thread.
+ * A command that only reads the tasks can be cancelled, which interrupts its thread.
+ * A command that changes the tasks always runs to the end, so the list and the storage file are never left
+ * half changed, and the storage file is never closed by an interrupt partway through a write.
+ */
+public class CommandRunner {
+    private final Botanic botanic;
+    private final Gui gui = new Gui();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "botanic-command");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The command that is running or waiting to run, only used on the JavaFX Application Thread. */
+    private FutureTask<String> current;
+    private Command currentCommand;
+
+    /**
+     * Instantiates CommandRunner.
+     *
+     * @param botanic The Botanic instance that executes the commands.
+     */
+    public CommandRunner(Botanic botanic) {
+        this.botanic = botanic;
+    }
+
+    /**
+     * Runs the given command on the background thread, then passes its response to the given consumer
+     * on the JavaFX Application Thread. Must be called on the JavaFX Application Thread.
+     *
+     * @param cmd The command to run.
+     * @param onResponse The consumer of botanic's response.
+     */
+    public void run(Command cmd, Consumer<String> onResponse) {
+        assert current == null : "Only one command should run at a time.";
+        FutureTask<String> task = new FutureTask<>(() -> botanic.getResponse(cmd)) {
+            @Override
+            protected void done() {
+                Platform.runLater(() -> finish(this, onResponse));
+            }
+        };
+        current = task;
+        currentCommand = cmd;
+        executor.execute(task);
+    }
+
+    /**
+     * Passes the response of the given finished command to the given consumer.
+     *
+     * @param task The finished command.
+     * @param onResponse The consumer of botanic's response.
+     */
+    private void finish(FutureTask<String> task, Consumer<String> onResponse) {
+        if (task != current) {
+            return;
+        }
+        current = null;
+        currentCommand = null;
+        String response;
+        try {
+            response = task.get();
+        } catch (CancellationException e) {
+            response = gui.getCancelledMsg();
+        } catch (ExecutionException e) {
+            System.out.println("Unable to run command.");
+            e.getCause().printStackTrace();
+            response = gui.getCommandFailedErrorMsg();
+        } catch (InterruptedException e) {
+            //not reached, as the task is done before this is called
+            Thread.currentThread().interrupt();
+            return;
+        }
+        onResponse.accept(response);
+    }
+
+    /**
+     * Returns whether a command is running or waiting to run.
+     *
+     * @return True if a command has not finished yet, false otherwise.
+     */
+    public boolean isRunning() {
+        return current != null;
+    }
+
+    /**
+     * Returns whether the running command can be cancelled.
+     *
+     * @return True if a command is running and it only reads the tasks, false otherwise.
+     */
+    public boolean isCancellable() {
+        return current != null && currentCommand.isReadOnly();
+    }
+
+    /**
+     * Cancels the running command if it only reads the tasks.
+     * Its consumer is then given the cancelled message instead of its response.
+     */
+    public void cancel() {
+        if (isCancellable()) {
+            current.cancel(true);
+        }
+    }
+
+    /**
+     * Waits for the running command to finish, then stops the background thread.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
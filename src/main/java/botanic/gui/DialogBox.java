@@ -1,15 +1,7 @@
 package botanic.gui;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -23,6 +15,7 @@ import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 
 
@@ -31,6 +24,8 @@ import javafx.scene.paint.Color;
  * it consists of an ImageView representing the user/botanic icon and a Label containing
  * the user's input or botanic's response.
  * This container is to be displayed onto the screen.
+ * The nodes are built in code rather than loaded from FXML, and the font, border and backgrounds
+ * are made once and shared by every dialog box, so adding a message does not parse any XML.
  */
 public class DialogBox extends HBox {
     private static final BorderStrokeStyle BORDER_STROKE_STYLE = BorderStrokeStyle.SOLID;
@@ -40,16 +35,32 @@ public class DialogBox extends HBox {
     private static final Color COLOR_USER = Color.LIGHTGOLDENRODYELLOW;
     private static final CornerRadii DIALOG_BOX_CORNER_RADII = new CornerRadii(10.0);
     private static final Insets INSETS = new Insets(-5.0);
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+    private static final double PREF_WIDTH = 400.0;
+    private static final double PICTURE_SIZE = 88.0;
+    private static final Font FONT = new Font("Comic Sans MS", 13.0);
+
+    //Solution below adapted from
+    // https://stackoverflow.com/questions/27712213/how-do-i-make-a-simple-solid-border-around-a-flowpane-in-javafx
+    /** The border around the label of every dialog box. */
+    private static final Border BORDER = new Border(new BorderStroke(
+            COLOR_BORDER, BORDER_STROKE_STYLE, DIALOG_BOX_CORNER_RADII, BORDER_WIDTH, INSETS));
+
+    //Solution below adapted from
+    // https://stackoverflow.com/questions/22614758/issue-with-background-color-in-javafx-8
+    /** The backgrounds of the labels of the user's dialog boxes and botanic's dialog boxes. */
+    private static final Background BACKGROUND_USER = new Background(new BackgroundFill(
+            COLOR_USER, DIALOG_BOX_CORNER_RADII, INSETS));
+    private static final Background BACKGROUND_BOTANIC = new Background(new BackgroundFill(
+            COLOR_BOTANIC, DIALOG_BOX_CORNER_RADII, INSETS));
 
     //@@author HmuuMyatMoe-reused
     //Reused from https://se-education.org/guides/tutorials/javaFxPart4.html
     // with minor modifications
 
     /** The label containing a string representing the user input or botanic's response. */
-    @FXML
     private Label dialog;
     /** The icon to be displayed, representing the user's icon or the botanic's icon. */
-    @FXML
     private ImageView displayPicture;
 
     /**
@@ -57,65 +68,45 @@ public class DialogBox extends HBox {
      *
      * @param text A string that represents user's input or botanic's response.
      * @param img The user's or botanic's icon.
+     * @param isUser True to put the text on the left and the icon on the right, as for the user's input,
+     *               false to put the icon on the left, as for botanic's response.
      */
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(
-                    MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        dialog.setText(text);
-        displayPicture.setImage(img);
+    private DialogBox(String text, Image img, boolean isUser) {
+        dialog = new Label(text);
+        dialog.setWrapText(true);
+        dialog.setFont(FONT);
         dialog.setMinHeight(Region.USE_PREF_SIZE);
-    }
+        dialog.setBorder(BORDER);
+        dialog.setBackground(isUser ? BACKGROUND_USER : BACKGROUND_BOTANIC);
 
-    /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
-     */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.CENTER_LEFT);
-    }
-    //@@author
+        displayPicture = new ImageView(img);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
 
-    //Solution below adapted from
-    // https://stackoverflow.com/questions/27712213/how-do-i-make-a-simple-solid-border-around-a-flowpane-in-javafx
-    /**
-     * Adds border to the given dialog box.
-     *
-     * @param dialogBox The dialog box to which we add borders to.
-     */
-    private static void designBorder(DialogBox dialogBox) {
-        dialogBox.dialog.setBorder(
-                new Border(new BorderStroke(
-                        DialogBox.COLOR_BORDER, DialogBox.BORDER_STROKE_STYLE,
-                        DialogBox.DIALOG_BOX_CORNER_RADII, DialogBox.BORDER_WIDTH,
-                        DialogBox.INSETS)));
+        if (isUser) {
+            getChildren().addAll(dialog, displayPicture);
+            setAlignment(Pos.CENTER_RIGHT);
+        } else {
+            getChildren().addAll(displayPicture, dialog);
+            setAlignment(Pos.CENTER_LEFT);
+        }
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+        setPadding(PADDING);
     }
 
-    //Solution below adapted from
-    // https://stackoverflow.com/questions/22614758/issue-with-background-color-in-javafx-8
     /**
-     * Sets the background color of the given dialog box to the given color.
+     * Changes the text shown in this dialog box, so that the box can be reused for another message.
      *
-     * @param dialogBox The dialog box to which we set the background color.
-     * @param color The color to set the background to.
+     * @param text A string that represents user's input or botanic's response.
      */
-    private static void setBackgroundColor(DialogBox dialogBox, Color color) {
-        dialogBox.dialog.setBackground(
-                new Background(new BackgroundFill(
-                        color, DialogBox.DIALOG_BOX_CORNER_RADII, DialogBox.INSETS)));
+    void setMessage(String text) {
+        dialog.setText(text);
     }
 
-    //@@author HmuuMyatMoe-reused
-    //Reused from https://se-education.org/guides/tutorials/javaFxPart4.html
-    // with minor modifications
     /**
      * Instantiates DialogBox where the ImageView is on the right and text on the left,
      * which represents the user's input.
@@ -125,10 +116,7 @@ public class DialogBox extends HBox {
      * @return A DialogBox representing the user's input message.
      */
     public static DialogBox getUserDialog(String text, Image img) {
-        DialogBox userDialog = new DialogBox(text, img);
-        designBorder(userDialog);
-        setBackgroundColor(userDialog, DialogBox.COLOR_USER);
-        return userDialog;
+        return new DialogBox(text, img, true);
     }
 
     /**
@@ -140,11 +128,7 @@ public class DialogBox extends HBox {
      * @return A DialogBox representing Botanic's response message.
      */
     public static DialogBox getBotanicDialog(String text, Image img) {
-        var botanicDialog = new DialogBox(text, img);
-        botanicDialog.flip();
-        designBorder(botanicDialog);
-        setBackgroundColor(botanicDialog, DialogBox.COLOR_BOTANIC);
-        return botanicDialog;
+        return new DialogBox(text, img, false);
     }
     //@@author
 }
@@ -1,5 +1,10 @@
 package botanic.gui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import botanic.task.Page;
 import botanic.task.Task;
 import botanic.task.TaskList;
 
@@ -84,26 +89,136 @@ public class Gui {
     }
 
     /**
-     * Returns a string representation of all the tasks in the list in response
+     * Returns a string representation of the tasks on the given page of the list in response
      * to the list command.
      *
      * @param tasks The task list to be printed.
+     * @param page The page of the list to print.
      * @return Response to a successful list command.
      */
-    public String printTasks(TaskList tasks) {
+    public String printTasks(TaskList tasks, Page page) {
         assert tasks != null : "Task list given cannot be null";
-        return "Here are the tasks in your basket:\n" + tasks;
+        return printPage("Here are the tasks in your basket:\n", tasks, page);
     }
 
     /**
-     * Returns results found from searching for a keyword in the list.
+     * Returns the given heading followed by the numbered tasks on the given page of the list,
+     * with a line saying which page it is if the list does not fit on one page.
+     *
+     * @param heading The line to print above the tasks.
+     * @param tasks The task list to be printed.
+     * @param page The page of the list to print.
+     * @return The page of tasks, or a message saying that there is no such page.
+     */
+    private String printPage(String heading, TaskList tasks, Page page) {
+        int total = tasks.size();
+        if (page.isPastEnd(total)) {
+            return getNoPageErrorMsg(page, total);
+        }
+        StringBuilder sb = new StringBuilder(heading);
+        try {
+            tasks.render(sb, page);
+        } catch (IOException e) {
+            //appending to a StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.append(getPageFooter(page, total)).toString();
+    }
+
+    /**
+     * Returns the line printed below a page of tasks saying which page it is.
+     *
+     * @param page The page printed.
+     * @param total The number of tasks in the whole list.
+     * @return The page line, or an empty string if the list fits on one page.
+     */
+    public String getPageFooter(Page page, int total) {
+        int pageCount = page.getPageCount(total);
+        if (pageCount <= 1) {
+            return "";
+        }
+        String footer = String.format("Page %d of %d, showing items %d to %d of %d.\n", page.getNumber(),
+                pageCount, page.getStart(total) + 1, page.getEnd(total), total);
+        if (page.getNumber() < pageCount) {
+            footer += "Add \"--page " + (page.getNumber() + 1) + "\" to your command to see the next page.\n";
+        }
+        return footer;
+    }
+
+    /**
+     * Returns botanic response to when the page asked for is past the last page.
+     *
+     * @param page The page asked for.
+     * @param total The number of tasks in the whole list.
+     * @return No-such-page error message.
+     */
+    public String getNoPageErrorMsg(Page page, int total) {
+        return "There is no page " + page.getNumber() + ". There are only "
+                + page.getPageCount(total) + " page(s) of items.";
+    }
+
+    /**
+     * Returns botanic response to when a page number or page size is not a whole number in range.
+     *
+     * @return Invalid page error message.
+     */
+    public String getInvalidPageErrorMsg() {
+        return "Please give a page number of at least 1 and a page size from 1 to " + Page.MAX_SIZE + ".";
+    }
+
+    /**
+     * Returns the tasks with the given status in response to the list done or list pending command.
+     *
+     * @param status The status of the tasks listed, "done" or "pending".
+     * @param tasks The numbered tasks with the status.
+     * @return Response to a successful list done or list pending command.
+     */
+    public String printTasksByStatus(String status, String tasks) {
+        return "Here are the " + status + " tasks in your basket:\n" + tasks;
+    }
+
+    /**
+     * Returns botanic response to when there is no task with the given status.
+     *
+     * @param status The status of the tasks listed, "done" or "pending".
+     * @return No-item-with-status error message.
+     */
+    public String getNoStatusItemErrorMsg(String status) {
+        return "There are no " + status + " items in your basket.";
+    }
+
+    /**
+     * Returns botanic response to the stats command.
+     *
+     * @param size The number of tasks in the list.
+     * @param doneCount The number of tasks marked as done.
+     * @param pendingCount The number of tasks not marked as done.
+     * @return Stats message.
+     */
+    public String getStatsMsg(int size, int doneCount, int pendingCount) {
+        return "You have " + size + " task(s) in your basket.\n"
+                + doneCount + " done, " + pendingCount + " pending.";
+    }
+
+    /**
+     * Returns the first page of results found from searching for a keyword in the list.
      *
      * @param tasks The tasks that match with given keyword.
      * @return Search results.
      */
     public String getFindResult(TaskList tasks) {
-        String output = "Here are the matching tasks in your basket:\n";
-        return output + tasks;
+        return getFindResult(tasks, Page.FIRST);
+    }
+
+    /**
+     * Returns the given page of results found from searching for a keyword in the list.
+     *
+     * @param tasks The tasks that match with given keyword.
+     * @param page The page of results to print.
+     * @return Search results.
+     */
+    public String getFindResult(TaskList tasks, Page page) {
+        return printPage("Here are the matching tasks in your basket:\n", tasks, page);
     }
 
     /**
@@ -150,6 +265,39 @@ public class Gui {
         return "None of the items in your basket have the date \"" + date + "\"";
     }
 
+    /**
+     * Returns botanic response to when there is no event happening on the given date.
+     *
+     * @param date The date searched for.
+     * @return No-active-item error message.
+     */
+    public String getNoActiveMatchErrorMsg(String date) {
+        return "None of the events in your basket are happening on \"" + date + "\"";
+    }
+
+    /**
+     * Returns the note added to the response to adding an event
+     * that overlaps with events already in the list.
+     *
+     * @param tasks The events that overlap with the added event.
+     * @return Event conflict message.
+     */
+    public String getEventConflictMsg(TaskList tasks) {
+        return "Heads up! It overlaps with these events in your basket:\n" + tasks;
+    }
+
+    /**
+     * Returns botanic response to when there is no task with dates
+     * that fall between the given dates.
+     *
+     * @param from The earliest date searched for.
+     * @param to The latest date searched for.
+     * @return No-date-range-match-item error message.
+     */
+    public String getNoDateRangeMatchErrorMsg(String from, String to) {
+        return "None of the items in your basket have a date from \"" + from + "\" to \"" + to + "\"";
+    }
+
     /**
      * Returns botanic response to a command with incomplete description
      * (missing fields such as name, index, dates).
@@ -214,4 +362,55 @@ public class Gui {
     public String getInvalidCommandErrorMsg() {
         return "I'm sorry, there is no such command.";
     }
+
+    /**
+     * Returns botanic response to a command that the user cancelled before it finished.
+     *
+     * @return Cancelled command message.
+     */
+    public String getCancelledMsg() {
+        return "Okra-y, I've stopped that command.";
+    }
+
+    /**
+     * Returns botanic response to a command that failed with an unexpected error.
+     *
+     * @return Failed command error message.
+     */
+    public String getCommandFailedErrorMsg() {
+        return "I'm sorry, something went wrong while carrying out that command.";
+    }
+
+    /**
+     * Returns the line listed in a batch summary for a command of the batch that failed.
+     *
+     * @param lineNumber The number of the line of the command in the batch, starting from 1.
+     * @param reason The error message of the command.
+     * @return The failed command line.
+     */
+    public String getBatchFailure(int lineNumber, String reason) {
+        return "Line " + lineNumber + ": " + reason;
+    }
+
+    /**
+     * Returns botanic response to a batch of commands.
+     *
+     * @param commandCount The number of commands in the batch.
+     * @param failedCount The number of commands that failed.
+     * @param failures The lines listing the first of the failed commands.
+     * @param size The number of tasks in the list after the batch.
+     * @return Batch summary message.
+     */
+    public String getBatchSummaryMsg(int commandCount, int failedCount, List<String> failures, int size) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Phew! I've run ").append(commandCount).append(" command(s): ")
+                .append(commandCount - failedCount).append(" done, ")
+                .append(failedCount).append(" failed.\n");
+        failures.forEach(failure -> sb.append(failure).append("\n"));
+        if (failedCount > failures.size()) {
+            sb.append("...and ").append(failedCount - failures.size()).append(" more failed command(s).\n");
+        }
+        sb.append("Now you have ").append(size).append(" task(s) in your basket.\n");
+        return sb.toString();
+    }
 }
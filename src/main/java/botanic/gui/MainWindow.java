@@ -3,25 +3,46 @@ package botanic.gui;
 //@@author HmuuMyatMoe-reused
 //Reused from https://se-education.org/guides/tutorials/javaFxPart4.html
 // with minor modifications
+import java.util.List;
+
 import botanic.Botanic;
+import botanic.command.Command;
+import botanic.exception.BotanicException;
+import javafx.animation.PauseTransition;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
  */
 public class MainWindow extends AnchorPane {
+    /** How long a command runs before the progress indicator is shown, so quick commands do not flicker it. */
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<TranscriptEntry> transcriptView;
     @FXML
     private TextField userInput;
+    @FXML
+    private Button sendButton;
+    @FXML
+    private ProgressIndicator progressIndicator;
+    @FXML
+    private Button cancelButton;
     private Botanic botanic;
+    private TranscriptArchive archive;
+    private CommandRunner runner;
+    private PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+    /** The messages kept in the window, of which only the visible ones are drawn. */
+    private ObservableList<TranscriptEntry> transcript = FXCollections.observableArrayList();
 
     //UserIcon.png is taken from https://www.flaticon.com/free-icon/sun_4478387?related_id=4478387&origin=pack
     //Attribution for UserIcon.png:
@@ -37,45 +58,110 @@ public class MainWindow extends AnchorPane {
             .getResourceAsStream("/images/BotanicIcon.png"));
 
     /**
-     * Binds the v value property to the height of the dialogContainer.
+     * Shows the messages of the conversation in the list view, which only draws the rows in sight.
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        transcriptView.setItems(transcript);
+        transcriptView.setCellFactory(view -> new TranscriptCell(view, userImage, botanicImage));
+        progressDelay.setOnFinished(event -> {
+            progressIndicator.setVisible(true);
+            cancelButton.setVisible(runner.isCancellable());
+        });
     }
 
     /**
      * Initialises Botanic and greets user.
      *
      * @param botanic A Botanic instance.
+     * @param archive The file that old messages are moved to once the window holds too many.
+     * @param runner The runner that executes commands away from the JavaFX Application Thread.
      */
-    public void setBotanic(Botanic botanic) {
+    public void setBotanic(Botanic botanic, TranscriptArchive archive, CommandRunner runner) {
         this.botanic = botanic;
+        this.archive = archive;
+        this.runner = runner;
         String welcome = this.botanic.getWelcome();
-        dialogContainer.getChildren().add(
-                DialogBox.getBotanicDialog(welcome, botanicImage)
-        );
+        addToTranscript(new TranscriptEntry(welcome, false));
+    }
+
+    /**
+     * Adds the given messages to the end of the conversation and scrolls down to them.
+     * If the window then holds too many messages, the oldest are moved to the transcript file.
+     *
+     * @param entries The messages to add.
+     */
+    private void addToTranscript(TranscriptEntry... entries) {
+        transcript.addAll(entries);
+        int spillCount = archive.getSpillCount(transcript.size());
+        if (spillCount > 0) {
+            List<TranscriptEntry> oldest = transcript.subList(0, spillCount);
+            archive.spill(oldest);
+            oldest.clear();
+        }
+        transcriptView.scrollTo(transcript.size() - 1);
     }
 
     /**
      * Gets a response from Botanic for the user input given.
-     * Then, gets one DialogBox containing the user input and another containing the response,
-     * and add both to the Vbox container.
+     * Then, adds the user input and the response to the conversation,
+     * which the list view shows in dialog boxes.
      * Clear the user input at the end.
+     * The command is run on a background thread, and the input is turned off until its response comes back.
+     * If it runs for a while, a progress indicator is shown, with a cancel button if the command only reads the tasks.
      */
     @FXML
     private void handleUserInput() {
-        //get user input and get response from botanic
+        if (runner.isRunning()) {
+            return;
+        }
+        //get user input and parse it into a command
         String input = userInput.getText();
-        String response = botanic.getResponse(input);
-
-        //get dialog boxes containing user input and botanic response
-        //then add the dialog boxes to vbox container
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getBotanicDialog(response, botanicImage)
-        );
         userInput.clear();
+        Command cmd;
+        try {
+            cmd = botanic.parse(input);
+        } catch (BotanicException e) {
+            addToTranscript(
+                    new TranscriptEntry(input, true),
+                    new TranscriptEntry(e.getMessage(), false)
+            );
+            return;
+        }
+
+        //add user input now and botanic response once the command has run
+        addToTranscript(new TranscriptEntry(input, true));
+        setRunning(true);
+        runner.run(cmd, response -> {
+            setRunning(false);
+            addToTranscript(new TranscriptEntry(response, false));
+        });
+    }
+
+    /**
+     * Cancels the running command, if it only reads the tasks.
+     */
+    @FXML
+    private void handleCancel() {
+        runner.cancel();
+    }
+
+    /**
+     * Turns the input off while a command runs and back on after, starting or hiding the progress indicator.
+     *
+     * @param isRunning True if a command has started, false if it has finished.
+     */
+    private void setRunning(boolean isRunning) {
+        userInput.setDisable(isRunning);
+        sendButton.setDisable(isRunning);
+        if (isRunning) {
+            progressDelay.playFromStart();
+            return;
+        }
+        progressDelay.stop();
+        progressIndicator.setVisible(false);
+        cancelButton.setVisible(false);
+        userInput.requestFocus();
     }
 }
 //@@author
@@ -0,0 +1,121 @@
+package botanic.gui;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encapsulates the related fields and behavior of the file that old messages of the conversation are moved to.
+ * The window keeps at most a set number of messages, so that the work of showing the conversation
+ * stays the same however long the session is. Once there are more, the oldest quarter of them
+ * are appended to the transcript file on a background thread and dropped from the window.
+ */
+public class TranscriptArchive {
+    /** The default largest number of messages kept in the window. */
+    public static final int DEFAULT_MAX_ENTRIES = 500;
+
+    private final String dirPath;
+    private final String filePath;
+    private final int maxEntries;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "botanic-transcript");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiates TranscriptArchive that keeps the default number of messages in the window.
+     *
+     * @param dirPath The path to the directory that the transcript file is located at.
+     * @param fileName The name of the transcript file.
+     */
+    public TranscriptArchive(String dirPath, String fileName) {
+        this(dirPath, fileName, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Instantiates TranscriptArchive.
+     *
+     * @param dirPath The path to the directory that the transcript file is located at.
+     * @param fileName The name of the transcript file.
+     * @param maxEntries The largest number of messages kept in the window.
+     */
+    public TranscriptArchive(String dirPath, String fileName, int maxEntries) {
+        assert maxEntries >= 4 : "At least 4 messages should be kept in the window.";
+        this.dirPath = dirPath;
+        this.filePath = dirPath + File.separator + fileName;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the number of the oldest messages to move to the transcript file,
+     * when the window holds the given number of messages.
+     * A quarter of the messages are moved at once, so that they are not dropped from the window one by one.
+     *
+     * @param size The number of messages in the window.
+     * @return The number of messages to move, or 0 if the window is not over its limit.
+     */
+    public int getSpillCount(int size) {
+        if (size <= maxEntries) {
+            return 0;
+        }
+        return size - maxEntries + maxEntries / 4;
+    }
+
+    /**
+     * Appends the given messages to the transcript file on a background thread.
+     *
+     * @param entries The messages to move, oldest first.
+     */
+    public void spill(List<TranscriptEntry> entries) {
+        List<TranscriptEntry> copy = new ArrayList<>(entries);
+        executor.execute(() -> write(copy));
+    }
+
+    /**
+     * Appends the given messages to the transcript file, each followed by a blank line.
+     *
+     * @param entries The messages to write.
+     */
+    private void write(List<TranscriptEntry> entries) {
+        new File(dirPath).mkdirs();
+        FileOutputStream out;
+        try {
+            out = new FileOutputStream(filePath, true);
+        } catch (IOException e) {
+            System.out.println("Unable to open transcript file.");
+            e.printStackTrace();
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (TranscriptEntry entry : entries) {
+                writer.write(entry.toString());
+                writer.write("\n\n");
+            }
+        } catch (IOException e) {
+            System.out.println("Unable to write to transcript file.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Waits for the messages still being moved to be written, then stops the background thread.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
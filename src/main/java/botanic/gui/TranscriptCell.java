@@ -0,0 +1,77 @@
+package botanic.gui;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Encapsulates the related fields and behavior of a row of the conversation shown in the window.
+ * The list view only makes enough rows to fill the window and reuses them while scrolling,
+ * so each row keeps one dialog box for the user and one for botanic and only changes their text.
+ */
+class TranscriptCell extends ListCell<TranscriptEntry> {
+    /** The width taken up by the scroll bar and padding of the list view. */
+    private static final double SCROLL_BAR_WIDTH = 20.0;
+
+    private final ListView<TranscriptEntry> view;
+    private final Image userImage;
+    private final Image botanicImage;
+    private DialogBox userDialog;
+    private DialogBox botanicDialog;
+
+    /**
+     * Instantiates TranscriptCell.
+     *
+     * @param view The list view that the row is in.
+     * @param userImage The user's icon.
+     * @param botanicImage Botanic's icon.
+     */
+    TranscriptCell(ListView<TranscriptEntry> view, Image userImage, Image botanicImage) {
+        this.view = view;
+        this.userImage = userImage;
+        this.botanicImage = botanicImage;
+        //lets the row shrink to the width of the list view so that long messages wrap
+        setPrefWidth(0);
+        setStyle("-fx-background-color: transparent;");
+    }
+
+    /**
+     * Makes the given dialog box follow the width of the list view.
+     *
+     * @param dialogBox The dialog box of this row.
+     * @return The dialog box.
+     */
+    private DialogBox fitToView(DialogBox dialogBox) {
+        dialogBox.prefWidthProperty().bind(view.widthProperty().subtract(SCROLL_BAR_WIDTH));
+        return dialogBox;
+    }
+
+    /**
+     * Shows the given message in this row, or nothing if the row is empty.
+     *
+     * @param entry The message to show.
+     * @param isEmpty True if the row does not hold a message.
+     */
+    @Override
+    protected void updateItem(TranscriptEntry entry, boolean isEmpty) {
+        super.updateItem(entry, isEmpty);
+        if (isEmpty || entry == null) {
+            setGraphic(null);
+            return;
+        }
+        DialogBox dialogBox;
+        if (entry.isUser()) {
+            if (userDialog == null) {
+                userDialog = fitToView(DialogBox.getUserDialog(entry.getText(), userImage));
+            }
+            dialogBox = userDialog;
+        } else {
+            if (botanicDialog == null) {
+                botanicDialog = fitToView(DialogBox.getBotanicDialog(entry.getText(), botanicImage));
+            }
+            dialogBox = botanicDialog;
+        }
+        dialogBox.setMessage(entry.getText());
+        setGraphic(dialogBox);
+    }
+}
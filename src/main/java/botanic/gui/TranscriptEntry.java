@@ -0,0 +1,49 @@
+package botanic.gui;
+
+/**
+ * Encapsulates the related fields and behavior of one message in the conversation with botanic,
+ * either the user's input or botanic's response.
+ */
+public class TranscriptEntry {
+    private final String text;
+    private final boolean isUser;
+
+    /**
+     * Instantiates TranscriptEntry.
+     *
+     * @param text The text of the message.
+     * @param isUser True if the message is the user's input, false if it is botanic's response.
+     */
+    public TranscriptEntry(String text, boolean isUser) {
+        this.text = text;
+        this.isUser = isUser;
+    }
+
+    /**
+     * Returns the text of this message.
+     *
+     * @return The text of the message.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether this message is the user's input.
+     *
+     * @return True if the message is the user's input, false if it is botanic's response.
+     */
+    public boolean isUser() {
+        return isUser;
+    }
+
+    /**
+     * Returns the message as it is written to the transcript file.
+     *
+     * @return The speaker followed by the text of the message.
+     */
+    @Override
+    public String toString() {
+        return (isUser ? "You: " : "BOTanic: ") + text;
+    }
+}
@@ -3,23 +3,37 @@ package botanic.parser;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import botanic.Formatter;
 import botanic.command.AddCommand;
 import botanic.command.ByeCommand;
 import botanic.command.Command;
 import botanic.command.DeleteCommand;
+import botanic.command.FindActiveCommand;
 import botanic.command.FindAllMatchCommand;
 import botanic.command.FindDateCommand;
 import botanic.command.FindFlexCommand;
+import botanic.command.FindRangeCommand;
 import botanic.command.ListCommand;
+import botanic.command.ListStatusCommand;
 import botanic.command.MarkCommand;
+import botanic.command.ParseErrorCommand;
+import botanic.command.StatsCommand;
 import botanic.command.UnmarkCommand;
+import botanic.exception.BotanicException;
 import botanic.exception.IncompleteDescException;
 import botanic.exception.InvalidInputException;
 import botanic.gui.Gui;
 import botanic.task.Deadline;
 import botanic.task.Event;
+import botanic.task.NameInterner;
+import botanic.task.Page;
 import botanic.task.Task;
 import botanic.task.ToDo;
 
@@ -27,11 +41,59 @@ import botanic.task.ToDo;
  * Encapsulates the related fields and behavior of a parser that parses the inputs given.
  */
 public class Parser {
+    private static final String PAGE_OPTION = "--page";
+    private static final String PAGE_SIZE_OPTION = "--page-size";
+    /** The start of the page options given after the keyword or dates of a find command. */
+    private static final Pattern PAGE_OPTIONS = Pattern.compile("(^|\\s+)--page(-size)?(\\s|$)");
+    /** The fewest lines in a piece of a batch that is parsed on a thread of its own. */
+    private static final int MIN_PIECE_LINES = 1 << 11;
+
     private enum CommandEnum {
-        BYE, LIST, MARK, UNMARK, TODO, DEADLINE, EVENT, DELETE, FINDALLMATCH, FINDFLEX, FINDDATE
+        BYE, LIST, MARK, UNMARK, TODO, DEADLINE, EVENT, DELETE, FINDALLMATCH, FINDFLEX, FINDDATE,
+        FINDRANGE, FINDACTIVE, STATS
     }
 
     private Gui gui = new Gui();
+    private NameInterner interner = NameInterner.getShared();
+
+    /**
+     * Encapsulates the related fields and behavior of parsing a range of the lines of a batch.
+     */
+    private class ParsePiece extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> inputs;
+        private final Command[] commands;
+        private final int from;
+        private final int to;
+
+        /**
+         * Instantiates ParsePiece to parse the lines between the given positions.
+         *
+         * @param inputs The lines of the batch.
+         * @param commands The array that the parsed commands are put in, at the positions of their lines.
+         * @param from The position of the first line to parse.
+         * @param to The position just past the last line to parse.
+         */
+        private ParsePiece(List<String> inputs, Command[] commands, int from, int to) {
+            this.inputs = inputs;
+            this.commands = commands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_PIECE_LINES) {
+                for (int i = from; i < to; i++) {
+                    commands[i] = parseOrKeepError(inputs.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParsePiece(inputs, commands, from, middle), new ParsePiece(inputs, commands, middle, to));
+        }
+    }
 
     /**
      * Checks if the required fields for a given command is given
@@ -59,7 +121,7 @@ public class Parser {
      */
     private ToDo getTodo(String[] splitInputs) throws IncompleteDescException {
         checkFieldExists(splitInputs, "name of todo");
-        return new ToDo(splitInputs[1]);
+        return new ToDo(interner.intern(splitInputs[1]));
     }
 
     /**
@@ -99,7 +161,7 @@ public class Parser {
      * @param input The string to extract the name from.
      * @param startIndex The starting index of the name in input string.
      * @param endIndex The last index of the name in input string.
-     * @return The extracted name.
+     * @return The extracted name, shared with other tasks of the same name.
      * @throws IncompleteDescException If no name can be found using the given indexes.
      */
     private String getName(String input, int startIndex, int endIndex)
@@ -109,7 +171,7 @@ public class Parser {
             throw new IncompleteDescException(
                     gui.getMissingFieldErrorMsg("name of task"));
         }
-        return name;
+        return interner.intern(name);
     }
 
     /**
@@ -171,7 +233,7 @@ public class Parser {
             throw new InvalidInputException(
                     gui.getStartAfterEndErrorMsg(startDateFormatted));
         }
-        assert endDate.isAfter(startDate) : "End date should be after start date.";
+        assert !endDate.isBefore(startDate) : "End date should not be before start date.";
     }
 
     /**
@@ -229,6 +291,160 @@ public class Parser {
         return new Event(name, startLocalDate, endLocalDate);
     }
 
+    /**
+     * Instantiates the command to list out a page of all tasks, or of only the done or pending tasks,
+     * and returns it. The page is given by a page number, as in "list 3", and the options
+     * "--page" and "--page-size", as in "list done --page 2 --page-size 50".
+     *
+     * @param splitInputs An array containing the input by the user.
+     * @return A new ListCommand, or a new ListStatusCommand if "done" or "pending" is given.
+     * @throws IncompleteDescException If a page option is given without its value.
+     * @throws InvalidInputException If anything other than "done", "pending" or the page is given,
+     *                               or if the page number or page size is out of range.
+     */
+    private Command getList(String[] splitInputs) throws IncompleteDescException, InvalidInputException {
+        if (splitInputs.length <= 1 || splitInputs[1].isBlank()) {
+            return new ListCommand(Page.FIRST);
+        }
+        String[] tokens = splitInputs[1].strip().split("\\s+");
+        switch (tokens[0].toLowerCase()) {
+        case "done":
+            return new ListStatusCommand(true, getPage(tokens, 1));
+        case "pending":
+            return new ListStatusCommand(false, getPage(tokens, 1));
+        default:
+            return new ListCommand(getPage(tokens, 0));
+        }
+    }
+
+    /**
+     * Returns the position in the given command text where the page options at its end start.
+     *
+     * @param text The text given after the name of a command.
+     * @return The position of the first page option, or the length of the text if there is none.
+     */
+    private static int getPageOptionsStart(String text) {
+        Matcher matcher = PAGE_OPTIONS.matcher(text);
+        return matcher.find() ? matcher.start() : text.length();
+    }
+
+    /**
+     * Returns the text given after the name of a find command, without the page options at its end.
+     *
+     * @param splitInputs An array containing the input by the user.
+     * @param fieldType The type of the field the text holds.
+     * @return The keyword or dates to find.
+     * @throws IncompleteDescException If no keyword or dates are given before the page options.
+     */
+    private String getFindText(String[] splitInputs, String fieldType) throws IncompleteDescException {
+        checkFieldExists(splitInputs, fieldType);
+        String text = splitInputs[1].substring(0, getPageOptionsStart(splitInputs[1]));
+        checkFieldExists(new String[] {splitInputs[0], text}, fieldType);
+        return text;
+    }
+
+    /**
+     * Returns the page given by the page options at the end of the text after the name of a find command.
+     *
+     * @param splitInputs An array containing the input by the user.
+     * @return The page given, or the first page if there are no page options.
+     * @throws IncompleteDescException If a page option is given without its value.
+     * @throws InvalidInputException If the page number or page size is out of range.
+     */
+    private Page getFindPage(String[] splitInputs) throws IncompleteDescException, InvalidInputException {
+        String options = splitInputs[1].substring(getPageOptionsStart(splitInputs[1])).strip();
+        return options.isEmpty() ? Page.FIRST : getPage(options.split("\\s+"), 0);
+    }
+
+    /**
+     * Returns the page given by the given words of the input,
+     * which may be a page number and the options "--page" and "--page-size", each followed by a number.
+     *
+     * @param tokens The words of the input.
+     * @param from The position of the first word about the page.
+     * @return The page given.
+     * @throws IncompleteDescException If a page option is given without its value.
+     * @throws InvalidInputException If a word is not a page option or a number,
+     *                               or if the page number or page size is out of range.
+     */
+    private Page getPage(String[] tokens, int from) throws IncompleteDescException, InvalidInputException {
+        int number = 1;
+        int size = Page.DEFAULT_SIZE;
+        for (int i = from; i < tokens.length; i++) {
+            switch (tokens[i].toLowerCase()) {
+            case PAGE_OPTION:
+                i++;
+                number = getPageValue(tokens, i, "page number");
+                break;
+            case PAGE_SIZE_OPTION:
+                i++;
+                size = getPageValue(tokens, i, "page size");
+                break;
+            default:
+                if (!tokens[i].matches("[+-]?\\d+")) {
+                    throw new InvalidInputException(
+                            gui.getInvalidCommandErrorMsg());
+                }
+                number = getPageValue(tokens, i, "page number");
+            }
+        }
+        if (size > Page.MAX_SIZE) {
+            throw new InvalidInputException(
+                    gui.getInvalidPageErrorMsg());
+        }
+        return new Page(number, size);
+    }
+
+    /**
+     * Parses the word at the given position into a page number or page size.
+     *
+     * @param tokens The words of the input.
+     * @param index The position of the word.
+     * @param fieldType The type of value the word holds.
+     * @return The value of the word.
+     * @throws IncompleteDescException If there is no word at the position.
+     * @throws InvalidInputException If the word is not a whole number of at least 1.
+     */
+    private int getPageValue(String[] tokens, int index, String fieldType)
+            throws IncompleteDescException, InvalidInputException {
+        if (index >= tokens.length) {
+            throw new IncompleteDescException(
+                    gui.getMissingFieldErrorMsg(fieldType));
+        }
+        try {
+            int value = Integer.parseInt(tokens[index]);
+            if (value >= 1) {
+                return value;
+            }
+        } catch (NumberFormatException n) {
+            //handled below along with numbers that are out of range
+        }
+        throw new InvalidInputException(
+                gui.getInvalidPageErrorMsg());
+    }
+
+    /**
+     * Instantiates a new FindRangeCommand and returns it.
+     *
+     * @param splitInputs An array containing the input by the user.
+     * @return A new FindRangeCommand.
+     * @throws IncompleteDescException If the earliest or latest date to find is not given.
+     * @throws InvalidInputException If any of the dates are given in a format different from "yyyy/MM/dd"
+     *                               or if the latest date is before the earliest date.
+     */
+    private FindRangeCommand getFindRange(String[] splitInputs)
+            throws IncompleteDescException, InvalidInputException {
+        String[] dates = getFindText(splitInputs, "dates to find").strip().split("\\s+", 2);
+        if (dates.length <= 1) {
+            throw new IncompleteDescException(
+                    gui.getMissingFieldErrorMsg("latest date to find"));
+        }
+        LocalDate from = getLocalDate(dates[0], 0, dates[0].length(), "earliest date to find");
+        LocalDate to = getLocalDate(dates[1], 0, dates[1].length(), "latest date to find");
+        checkEndIsAfterStart(from, to);
+        return new FindRangeCommand(from, to, getFindPage(splitInputs));
+    }
+
     /**
      * Checks that user has given the index of the task to be acted on,
      * by checking the length of String array of the split input
@@ -281,7 +497,9 @@ public class Parser {
             case BYE:
                 return new ByeCommand();
             case LIST:
-                return new ListCommand();
+                return getList(splitInputs);
+            case STATS:
+                return new StatsCommand();
             case MARK:
                 checkIndexExists(splitInputs, "mark");
                 int markIndex = getParsedIndex(splitInputs[1], "mark");
@@ -304,16 +522,23 @@ public class Parser {
                 Event event = getEvent(splitInputs);
                 return new AddCommand(event);
             case FINDALLMATCH:
-                checkFieldExists(splitInputs, "keyword to find");
-                return new FindAllMatchCommand(splitInputs[1]);
+                String allMatchKeyword = getFindText(splitInputs, "keyword to find");
+                return new FindAllMatchCommand(allMatchKeyword, getFindPage(splitInputs));
             case FINDFLEX:
-                checkFieldExists(splitInputs, "keyword to find");
-                return new FindFlexCommand(splitInputs[1]);
+                String flexKeyword = getFindText(splitInputs, "keyword to find");
+                return new FindFlexCommand(flexKeyword, getFindPage(splitInputs));
             case FINDDATE:
-                checkFieldExists(splitInputs, "date to find");
-                LocalDate localDateToFind = getLocalDate(splitInputs[1],
-                        0, splitInputs[1].length(), "date to find");
-                return new FindDateCommand(localDateToFind);
+                String dateText = getFindText(splitInputs, "date to find");
+                LocalDate localDateToFind = getLocalDate(dateText,
+                        0, dateText.length(), "date to find");
+                return new FindDateCommand(localDateToFind, getFindPage(splitInputs));
+            case FINDRANGE:
+                return getFindRange(splitInputs);
+            case FINDACTIVE:
+                String activeText = getFindText(splitInputs, "date to find");
+                LocalDate activeDate = getLocalDate(activeText,
+                        0, activeText.length(), "date to find");
+                return new FindActiveCommand(activeDate, getFindPage(splitInputs));
             default:
                 throw new InvalidInputException(
                         gui.getInvalidCommandErrorMsg());
@@ -323,4 +548,39 @@ public class Parser {
                     gui.getInvalidCommandErrorMsg());
         }
     }
+
+    /**
+     * Parses the given lines into commands, split across the common fork-join pool when there are many of them.
+     * A line that cannot be parsed gives a ParseErrorCommand holding the error, and a blank line gives null,
+     * so that every command stays at the position of its line.
+     *
+     * @param inputs The lines to parse, which must not be changed while they are parsed.
+     * @return The commands, in the order of the lines.
+     */
+    public List<Command> parseCommands(List<String> inputs) {
+        Command[] commands = new Command[inputs.size()];
+        if (inputs.size() <= MIN_PIECE_LINES || ForkJoinPool.commonPool().getParallelism() < 2) {
+            new ParsePiece(inputs, commands, 0, inputs.size()).compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParsePiece(inputs, commands, 0, inputs.size()));
+        }
+        return Arrays.asList(commands);
+    }
+
+    /**
+     * Parses the given line into a command, keeping any error found in a ParseErrorCommand.
+     *
+     * @param input The line to parse.
+     * @return The command, a ParseErrorCommand if the line is not a valid command, or null if the line is blank.
+     */
+    private Command parseOrKeepError(String input) {
+        if (input.isBlank()) {
+            return null;
+        }
+        try {
+            return parseCommand(input);
+        } catch (BotanicException e) {
+            return new ParseErrorCommand(e);
+        }
+    }
 }
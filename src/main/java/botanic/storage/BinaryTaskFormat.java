@@ -0,0 +1,53 @@
+package botanic.storage;
+
+/**
+ * Encapsulates the constants of the binary storage file format.
+ * A binary storage file starts with a header made of {@link #MAGIC} and {@link #VERSION},
+ * followed by one record per task. Each record holds a type tag, a done flag,
+ * the length of the UTF-8 encoded name, the name itself and then the dates of the task
+ * stored as epoch days: none for a ToDo, the end date for a Deadline,
+ * and the start and end date for an Event, followed by the CRC-32 of all of the above.
+ * Files of {@link #VERSION_WITHOUT_CHECKSUM} hold the same records without the CRC-32.
+ * All numbers are big-endian.
+ */
+final class BinaryTaskFormat {
+    /** The first four bytes of every binary storage file, "BOTN" in ASCII. */
+    static final int MAGIC = 0x424F544E;
+    /** The version of the record layout described above. */
+    static final int VERSION = 2;
+    /** The version of the record layout before records were sealed with a checksum. */
+    static final int VERSION_WITHOUT_CHECKSUM = 1;
+    /** The size of the header in bytes. */
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    /** The size of the type tag, done flag and name length of a record in bytes. */
+    static final int RECORD_PREFIX_BYTES = 2 + Integer.BYTES;
+    /** The size of the checksum at the end of a record in bytes. */
+    static final int CHECKSUM_BYTES = Integer.BYTES;
+
+    static final byte TYPE_TODO = 'T';
+    static final byte TYPE_DEADLINE = 'D';
+    static final byte TYPE_EVENT = 'E';
+
+    private BinaryTaskFormat() {
+    }
+
+    /**
+     * Returns the number of dates stored after the name of a record with the given type tag.
+     *
+     * @param type The type tag of the record.
+     * @return The number of epoch-day dates in the record.
+     * @throws IllegalArgumentException If the type tag is unknown.
+     */
+    static int getDateCount(byte type) {
+        switch (type) {
+        case TYPE_TODO:
+            return 0;
+        case TYPE_DEADLINE:
+            return 1;
+        case TYPE_EVENT:
+            return 2;
+        default:
+            throw new IllegalArgumentException("Unknown task type " + type);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package botanic.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+import botanic.task.Deadline;
+import botanic.task.Event;
+import botanic.task.NameInterner;
+import botanic.task.Task;
+import botanic.task.ToDo;
+
+/**
+ * Encapsulates the related fields and behavior of a streaming reader of binary storage files.
+ * The file is read through a fixed-size buffer, so only one record needs to be held in memory at a time.
+ * The checksum of each record is checked when the file has them.
+ */
+class BinaryTaskReader implements AutoCloseable {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private boolean isEndOfFile = false;
+    private boolean hasChecksums = false;
+    private CRC32 crc = new CRC32();
+
+    /**
+     * Instantiates BinaryTaskReader and checks the header of the given file.
+     * An empty file is read as a file without tasks.
+     *
+     * @param path The path of the file to read.
+     * @throws IOException If the file cannot be read or is not a binary storage file.
+     */
+    BinaryTaskReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.flip();
+        if (!fill(1)) {
+            return;
+        }
+        if (!fill(BinaryTaskFormat.HEADER_BYTES) || buffer.getInt() != BinaryTaskFormat.MAGIC) {
+            channel.close();
+            throw new IOException(path + " is not a binary storage file.");
+        }
+        int version = buffer.getInt();
+        if (version != BinaryTaskFormat.VERSION && version != BinaryTaskFormat.VERSION_WITHOUT_CHECKSUM) {
+            channel.close();
+            throw new IOException("Unsupported binary storage file version " + version + ".");
+        }
+        hasChecksums = version == BinaryTaskFormat.VERSION;
+    }
+
+    /**
+     * Reads from the file until the buffer holds at least the given number of bytes,
+     * growing the buffer if it is too small to hold them.
+     *
+     * @param bytes The number of bytes needed.
+     * @return True if the bytes are available, false if the file ended first.
+     * @throws IOException If the file cannot be read.
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (buffer.capacity() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(bytes);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes && !isEndOfFile) {
+            isEndOfFile = channel.read(buffer) < 0;
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Checks if there is another task to read.
+     *
+     * @return True if there is another record in the file, false otherwise.
+     * @throws IOException If the file cannot be read.
+     */
+    boolean hasNext() throws IOException {
+        return fill(1);
+    }
+
+    /**
+     * Decodes the next task in the file.
+     *
+     * @return The next task.
+     * @throws IOException If the file cannot be read, or the record is incomplete or damaged.
+     */
+    Task next() throws IOException {
+        if (!fill(BinaryTaskFormat.RECORD_PREFIX_BYTES)) {
+            throw new IOException("Incomplete record at end of binary storage file.");
+        }
+        //peek at the prefix so that the whole record stays in the buffer for the checksum
+        int recordStart = buffer.position();
+        byte type = buffer.get(recordStart);
+        int nameLength = buffer.getInt(recordStart + 2);
+        int dateCount;
+        try {
+            dateCount = BinaryTaskFormat.getDateCount(type);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Damaged record in binary storage file.", e);
+        }
+        int recordBytes = BinaryTaskFormat.RECORD_PREFIX_BYTES + nameLength + dateCount * Integer.BYTES;
+        int checksumBytes = hasChecksums ? BinaryTaskFormat.CHECKSUM_BYTES : 0;
+        if (nameLength < 0 || nameLength > channel.size() || !fill(recordBytes + checksumBytes)) {
+            throw new IOException("Incomplete record at end of binary storage file.");
+        }
+        recordStart = buffer.position();
+        if (hasChecksums) {
+            crc.reset();
+            crc.update(buffer.array(), buffer.arrayOffset() + recordStart, recordBytes);
+            if (buffer.getInt(recordStart + recordBytes) != (int) crc.getValue()) {
+                throw new IOException("Damaged record in binary storage file.");
+            }
+        }
+        buffer.position(recordStart + 1);
+        boolean isDone = buffer.get() != 0;
+        buffer.getInt();
+        String name = NameInterner.getShared().intern(new String(buffer.array(),
+                buffer.arrayOffset() + buffer.position(), nameLength, StandardCharsets.UTF_8));
+        buffer.position(buffer.position() + nameLength);
+
+        Task task;
+        if (type == BinaryTaskFormat.TYPE_TODO) {
+            task = new ToDo(name, isDone);
+        } else if (type == BinaryTaskFormat.TYPE_DEADLINE) {
+            LocalDate end = LocalDate.ofEpochDay(buffer.getInt());
+            task = new Deadline(name, end, isDone);
+        } else {
+            LocalDate start = LocalDate.ofEpochDay(buffer.getInt());
+            LocalDate end = LocalDate.ofEpochDay(buffer.getInt());
+            task = new Event(name, start, end, isDone);
+        }
+        buffer.position(buffer.position() + checksumBytes);
+        return task;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,120 @@
+package botanic.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import botanic.task.Deadline;
+import botanic.task.Event;
+import botanic.task.Task;
+
+/**
+ * Encapsulates the related fields and behavior of a writer of binary storage files.
+ * Tasks are encoded into a buffer that is written to the file channel whenever it fills up.
+ * Closing the writer forces the file to the disk.
+ */
+class BinaryTaskWriter implements AutoCloseable {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private CRC32 crc = new CRC32();
+
+    /**
+     * Instantiates BinaryTaskWriter, replacing the contents of the given file with the header.
+     *
+     * @param path The path of the file to write to.
+     * @throws IOException If the file cannot be opened.
+     */
+    BinaryTaskWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(BinaryTaskFormat.MAGIC);
+        buffer.putInt(BinaryTaskFormat.VERSION);
+    }
+
+    /**
+     * Makes sure there is space in the buffer for the given number of bytes,
+     * writing out the buffer or growing it as needed.
+     *
+     * @param bytes The number of bytes about to be put into the buffer.
+     * @throws IOException If the buffer cannot be written to the file.
+     */
+    private void ensureSpace(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocate(bytes);
+        }
+    }
+
+    /**
+     * Encodes the given task into the file.
+     *
+     * @param task The task to write.
+     * @throws IOException If the file cannot be written to.
+     */
+    void write(Task task) throws IOException {
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        byte type;
+        if (task instanceof Deadline) {
+            type = BinaryTaskFormat.TYPE_DEADLINE;
+        } else if (task instanceof Event) {
+            type = BinaryTaskFormat.TYPE_EVENT;
+        } else {
+            type = BinaryTaskFormat.TYPE_TODO;
+        }
+        int dateCount = BinaryTaskFormat.getDateCount(type);
+        ensureSpace(BinaryTaskFormat.RECORD_PREFIX_BYTES + name.length + dateCount * Integer.BYTES
+                + BinaryTaskFormat.CHECKSUM_BYTES);
+
+        int recordStart = buffer.position();
+        buffer.put(type);
+        buffer.put((byte) (task.isDone() ? 1 : 0));
+        buffer.putInt(name.length);
+        buffer.put(name);
+        if (type == BinaryTaskFormat.TYPE_DEADLINE) {
+            buffer.putInt((int) ((Deadline) task).getEnd().toEpochDay());
+        } else if (type == BinaryTaskFormat.TYPE_EVENT) {
+            buffer.putInt((int) ((Event) task).getStart().toEpochDay());
+            buffer.putInt((int) ((Event) task).getEnd().toEpochDay());
+        }
+        crc.reset();
+        crc.update(buffer.array(), recordStart, buffer.position() - recordStart);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Writes out everything in the buffer to the file.
+     *
+     * @throws IOException If the file cannot be written to.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes out the remaining tasks, forces them to the disk and closes the file.
+     *
+     * @throws IOException If the file cannot be written to.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package botanic.storage;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Encapsulates the related fields and behavior of a Compactor.
+ * This class represents the background worker that folds the journal into a fresh snapshot
+ * once the journal grows too large, so that reading the storage file stays fast.
+ */
+class Compactor {
+    /** The default size of the journal, in bytes, at which it is always compacted. */
+    static final long DEFAULT_MAX_JOURNAL_BYTES = 256 * 1024;
+    /** The default size of the journal, as a fraction of the snapshot size, at which it is compacted. */
+    static final double DEFAULT_MAX_JOURNAL_RATIO = 0.5;
+    /** The size of the journal, in bytes, below which the ratio trigger is ignored. */
+    private static final long MIN_JOURNAL_BYTES_FOR_RATIO = 4 * 1024;
+
+    private final long maxJournalBytes;
+    private final double maxJournalRatio;
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "botanic-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Instantiates Compactor.
+     *
+     * @param maxJournalBytes The size of the journal, in bytes, at which it is always compacted.
+     * @param maxJournalRatio The size of the journal, as a fraction of the snapshot size,
+     *                        at which it is compacted.
+     */
+    Compactor(long maxJournalBytes, double maxJournalRatio) {
+        assert maxJournalBytes > 0 : "Journal size trigger should be positive.";
+        assert maxJournalRatio > 0 : "Journal ratio trigger should be positive.";
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalRatio = maxJournalRatio;
+    }
+
+    /**
+     * Checks whether a journal of the given size should be folded into a snapshot of the given size.
+     *
+     * @param journalBytes The size of the journal in bytes.
+     * @param snapshotBytes The size of the snapshot in bytes.
+     * @return True if either the size or the ratio trigger is reached, false otherwise.
+     */
+    boolean shouldCompact(long journalBytes, long snapshotBytes) {
+        if (journalBytes >= maxJournalBytes) {
+            return true;
+        }
+        return journalBytes >= MIN_JOURNAL_BYTES_FOR_RATIO
+                && journalBytes > maxJournalRatio * snapshotBytes;
+    }
+
+    /**
+     * Schedules the given storage to be compacted on the background thread if a trigger is reached
+     * and no compaction is already pending. Returns immediately.
+     *
+     * @param storage The storage whose journal was appended to.
+     * @param journalBytes The size of the journal in bytes.
+     * @param snapshotBytes The size of the snapshot in bytes.
+     */
+    void onJournalAppended(Storage storage, long journalBytes, long snapshotBytes) {
+        if (!shouldCompact(journalBytes, snapshotBytes) || !isScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                storage.compact();
+            } finally {
+                isScheduled.set(false);
+            }
+        });
+    }
+}
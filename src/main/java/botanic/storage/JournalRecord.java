@@ -0,0 +1,122 @@
+package botanic.storage;
+
+import java.util.List;
+
+import botanic.task.Task;
+
+/**
+ * Encapsulates the related fields and behavior of a journal record.
+ * This class represents a single change made to the list of tasks, stored as one line in the journal file:
+ * "A | {task in storage format}" for an add, "X | {index}" for a delete,
+ * "M | {index}" for a mark and "U | {index}" for an unmark.
+ */
+class JournalRecord {
+    private enum Operation {
+        A, X, M, U
+    }
+
+    private Operation operation;
+    private String argument;
+
+    /**
+     * Instantiates JournalRecord.
+     *
+     * @param operation The type of change made.
+     * @param argument The task in storage format for an add, the index of the task otherwise.
+     */
+    private JournalRecord(Operation operation, String argument) {
+        this.operation = operation;
+        this.argument = argument;
+    }
+
+    /**
+     * Returns a record of the given task being added.
+     *
+     * @param task The task added.
+     * @return The journal record.
+     */
+    static JournalRecord ofAdd(Task task) {
+        return new JournalRecord(Operation.A, task.formatForStorage());
+    }
+
+    /**
+     * Returns a record of the task at the given index being deleted.
+     *
+     * @param index The index of the task deleted.
+     * @return The journal record.
+     */
+    static JournalRecord ofDelete(int index) {
+        return new JournalRecord(Operation.X, String.valueOf(index));
+    }
+
+    /**
+     * Returns a record of the task at the given index being marked as done.
+     *
+     * @param index The index of the task marked.
+     * @return The journal record.
+     */
+    static JournalRecord ofMark(int index) {
+        return new JournalRecord(Operation.M, String.valueOf(index));
+    }
+
+    /**
+     * Returns a record of the task at the given index being marked as not done.
+     *
+     * @param index The index of the task unmarked.
+     * @return The journal record.
+     */
+    static JournalRecord ofUnmark(int index) {
+        return new JournalRecord(Operation.U, String.valueOf(index));
+    }
+
+    /**
+     * Parses a line of the journal file into the record it represents.
+     *
+     * @param line A line in the journal file.
+     * @return The journal record.
+     */
+    static JournalRecord parse(String line) {
+        String[] splitDatas = line.split(" \\| ", 2);
+        return new JournalRecord(Operation.valueOf(splitDatas[0]), splitDatas[1]);
+    }
+
+    /**
+     * Applies the change represented by this record to the given list of tasks.
+     * Records pointing at an index that does not exist are ignored.
+     *
+     * @param tasks The list of tasks to apply the change to.
+     */
+    void applyTo(List<Task> tasks) {
+        if (operation == Operation.A) {
+            tasks.add(Storage.parseTask(argument));
+            return;
+        }
+        int index = Integer.parseInt(argument);
+        if (index < 0 || index >= tasks.size()) {
+            return;
+        }
+        switch (operation) {
+        case X:
+            tasks.remove(index);
+            break;
+        case M:
+            tasks.get(index).setDone(true);
+            break;
+        case U:
+            tasks.get(index).setDone(false);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Returns the string representation of this record, as stored in the journal file.
+     *
+     * @return A line of the journal file.
+     */
+    @Override
+    public String toString() {
+        return operation + " | " + argument;
+    }
+}
@@ -0,0 +1,225 @@
+package botanic.storage;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import botanic.task.Task;
+
+/**
+ * Encapsulates the related fields and behavior of a list of tasks that are decoded on demand.
+ * Opening a text storage file copies it into memory and closes it at once, so that the file can be replaced
+ * while the list is in use, then records where each line starts, after checking the checksum of the line.
+ * A line written before checksums were added has nothing to be checked against, so it is decoded
+ * straight away instead, and dropped if it cannot be decoded.
+ * Any other task is decoded the first time it is needed and is kept from then on,
+ * and the copy of the file is let go once every task in it is decoded.
+ * Tasks added later are held as they are.
+ * Getting a task takes no lock, so several threads can read the list at once, each decoding the tasks it is
+ * the first to need. A change must not run alongside any other use of the list, which the lock of TaskList ensures.
+ */
+class LazyTaskList extends AbstractList<Task> implements RandomAccess {
+    /** The offset stored for a task that is not in the file. */
+    private static final int NOT_IN_FILE = -1;
+    /** The access to the slots of the task array that hands a decoded task safely to other threads. */
+    private static final VarHandle TASK_SLOT = MethodHandles.arrayElementVarHandle(Task[].class);
+
+    /** The contents of the text storage file, null once every task in it is decoded. */
+    private volatile ByteBuffer file;
+    /** The decoder of each thread, as a decoder holds on to the bytes of the record it is decoding. */
+    private final ThreadLocal<TextRecordDecoder> decoders = ThreadLocal.withInitial(TextRecordDecoder::new);
+    /** The number of tasks in the file that are not decoded yet. */
+    private final AtomicInteger undecodedCount;
+    /** The offset of the line of each task in the file. */
+    private int[] offsets;
+    /** Each task that has been decoded or added, null for a task not yet decoded. */
+    private Task[] tasks;
+    private int size;
+
+    /**
+     * Instantiates LazyTaskList over the given contents of a text storage file.
+     *
+     * @param file The contents of the text storage file.
+     * @param offsets The offset of the line of each task in the file.
+     * @param tasks The tasks decoded while opening the file, null for a task not yet decoded.
+     * @param size The number of tasks in the file.
+     * @param undecodedCount The number of tasks in the file not yet decoded.
+     */
+    private LazyTaskList(ByteBuffer file, int[] offsets, Task[] tasks, int size, int undecodedCount) {
+        this.file = undecodedCount == 0 ? null : file;
+        this.offsets = offsets;
+        this.tasks = tasks;
+        this.size = size;
+        this.undecodedCount = new AtomicInteger(undecodedCount);
+    }
+
+    /**
+     * Reads the given text storage file and records where each of its non-blank lines starts.
+     *
+     * @param path The path of the text storage file, which must be smaller than
+     *             {@link MappedTaskReader#MAX_WINDOW_BYTES}.
+     * @return A list of the tasks in the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static LazyTaskList open(Path path) throws IOException {
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+        int fileSize = file.limit();
+        assert fileSize <= MappedTaskReader.MAX_WINDOW_BYTES : "File too large to read at once.";
+        int[] offsets = new int[16];
+        Task[] tasks = new Task[16];
+        int size = 0;
+        int undecodedCount = 0;
+        int skipped = 0;
+        int lineStart = 0;
+        TextRecordDecoder decoder = new TextRecordDecoder();
+        while (lineStart < fileSize) {
+            int lineEnd = TextRecordDecoder.findLineEnd(file, lineStart, fileSize);
+            if (TextRecordDecoder.isBlank(file, lineStart, lineEnd)) {
+                lineStart = lineEnd + 1;
+                continue;
+            }
+            Task task = null;
+            boolean isIntact;
+            if (file.get(lineStart) == RecordChecksum.MARKER) {
+                isIntact = decoder.isIntact(file, lineStart, lineEnd);
+            } else {
+                task = decoder.decodeIfIntact(file, lineStart, lineEnd);
+                isIntact = task != null;
+            }
+            if (!isIntact) {
+                skipped++;
+            } else {
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                    tasks = Arrays.copyOf(tasks, size * 2);
+                }
+                if (task == null) {
+                    undecodedCount++;
+                }
+                tasks[size] = task;
+                offsets[size++] = task == null ? lineStart : NOT_IN_FILE;
+            }
+            lineStart = lineEnd + 1;
+        }
+        Storage.reportDamagedRecords(path.toString(), skipped);
+        return new LazyTaskList(file, offsets, tasks, size, undecodedCount);
+    }
+
+    /**
+     * Returns the task at the given index, decoding it from the file if this is the first time it is needed.
+     * If two threads decode the same task at once, both get the task decoded first.
+     *
+     * @param index The index of the task.
+     * @return The task at the index.
+     */
+    @Override
+    public Task get(int index) {
+        checkIndex(index, size);
+        Task task = (Task) TASK_SLOT.getAcquire(tasks, index);
+        if (task != null) {
+            return task;
+        }
+        ByteBuffer contents = file;
+        if (contents == null) {
+            //another thread decoded the last task of the file since the slot was looked at
+            return (Task) TASK_SLOT.getAcquire(tasks, index);
+        }
+        //a view of its own, as decoding moves the position of the buffer
+        ByteBuffer view = contents.duplicate();
+        int lineStart = offsets[index];
+        int lineEnd = TextRecordDecoder.findLineEnd(view, lineStart, view.limit());
+        task = decoders.get().decode(view, lineStart, lineEnd);
+        Task decodedFirst = (Task) TASK_SLOT.compareAndExchange(tasks, index, null, task);
+        if (decodedFirst != null) {
+            return decodedFirst;
+        }
+        if (undecodedCount.decrementAndGet() == 0) {
+            file = null;
+        }
+        return task;
+    }
+
+    /**
+     * Returns the number of tasks in this list.
+     *
+     * @return The number of tasks.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the task at the given index.
+     *
+     * @param index The index of the task.
+     * @param task The task to put at the index.
+     * @return The task previously at the index.
+     */
+    @Override
+    public Task set(int index, Task task) {
+        Task previous = get(index);
+        tasks[index] = task;
+        offsets[index] = NOT_IN_FILE;
+        return previous;
+    }
+
+    /**
+     * Inserts the given task at the given index.
+     *
+     * @param index The index to insert the task at.
+     * @param task The task to insert.
+     */
+    @Override
+    public void add(int index, Task task) {
+        checkIndex(index, size + 1);
+        if (size == tasks.length) {
+            int capacity = Math.max(16, size * 2);
+            tasks = Arrays.copyOf(tasks, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        System.arraycopy(tasks, index, tasks, index + 1, size - index);
+        System.arraycopy(offsets, index, offsets, index + 1, size - index);
+        tasks[index] = task;
+        offsets[index] = NOT_IN_FILE;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the task at the given index.
+     *
+     * @param index The index of the task.
+     * @return The removed task.
+     */
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        System.arraycopy(tasks, index + 1, tasks, index, size - index - 1);
+        System.arraycopy(offsets, index + 1, offsets, index, size - index - 1);
+        size--;
+        tasks[size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Checks that the given index is within the given bound.
+     *
+     * @param index The index to check.
+     * @param bound The number of valid indexes.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + bound);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package botanic.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import botanic.task.Task;
+
+/**
+ * Encapsulates the behavior of reading a text storage file through memory mapping.
+ * The file is mapped in windows that end on a line break, and every record is decoded
+ * straight from the mapped bytes by a {@link TextRecordDecoder}. Damaged records are skipped.
+ */
+class MappedTaskReader {
+    /** The largest number of bytes mapped at once. */
+    static final int MAX_WINDOW_BYTES = 1 << 30;
+
+    /**
+     * Reads every task in the given text storage file.
+     *
+     * @param path The path of the text storage file.
+     * @return An ArrayList containing the tasks in the file, in order.
+     * @throws IOException If the file cannot be read or holds a line longer than a window.
+     */
+    static ArrayList<Task> read(Path path) throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        TextRecordDecoder decoder = new TextRecordDecoder();
+        int skipped = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long windowStart = 0;
+            while (windowStart < fileSize) {
+                int windowSize = (int) Math.min(fileSize - windowStart, MAX_WINDOW_BYTES);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+                boolean isLastWindow = windowStart + windowSize == fileSize;
+                int end = isLastWindow ? windowSize : TextRecordDecoder.findLastLineEnd(window, 0, windowSize) + 1;
+                if (end <= 0) {
+                    throw new IOException("Storage record longer than " + MAX_WINDOW_BYTES + " bytes.");
+                }
+                skipped += decodeLines(window, 0, end, decoder, tasks);
+                windowStart += end;
+            }
+        }
+        Storage.reportDamagedRecords(path.toString(), skipped);
+        return tasks;
+    }
+
+    /**
+     * Decodes every non-blank line between the given indexes of the buffer into the given list,
+     * skipping damaged lines.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the start of the first line.
+     * @param to The index just past the end of the last line.
+     * @param decoder The decoder to decode the records with.
+     * @param tasks The list to add the decoded tasks to.
+     * @return The number of damaged lines skipped.
+     */
+    static int decodeLines(ByteBuffer buffer, int from, int to,
+            TextRecordDecoder decoder, ArrayList<Task> tasks) {
+        int skipped = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = TextRecordDecoder.findLineEnd(buffer, lineStart, to);
+            if (!TextRecordDecoder.isBlank(buffer, lineStart, lineEnd)) {
+                Task task = decoder.decodeIfIntact(buffer, lineStart, lineEnd);
+                if (task == null) {
+                    skipped++;
+                } else {
+                    tasks.add(task);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return skipped;
+    }
+}
@@ -0,0 +1,157 @@
+package botanic.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import botanic.task.Task;
+
+/**
+ * Encapsulates the behavior of reading a text storage file on several threads.
+ * The memory-mapped file is split into chunks that start and end on a line break,
+ * the chunks are decoded in parallel on a fork-join pool, and the results are joined back in file order.
+ * Damaged records are skipped.
+ */
+class ParallelTaskLoader {
+    /** The smallest number of bytes worth decoding on a separate thread. */
+    static final int MIN_CHUNK_BYTES = 1024 * 1024;
+
+    /**
+     * Encapsulates the decoding of one chunk of a storage file.
+     */
+    private static class ChunkDecoder extends RecursiveTask<ArrayList<Task>> {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedByteBuffer window;
+        private final int from;
+        private final int to;
+        private int skipped = 0;
+
+        /**
+         * Instantiates ChunkDecoder.
+         *
+         * @param window The window of the file holding the chunk.
+         * @param from The index of the start of the first line in the chunk.
+         * @param to The index just past the end of the last line in the chunk.
+         */
+        ChunkDecoder(MappedByteBuffer window, int from, int to) {
+            this.window = window;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Decodes the lines in the chunk.
+         *
+         * @return The tasks in the chunk, in order.
+         */
+        @Override
+        protected ArrayList<Task> compute() {
+            ArrayList<Task> tasks = new ArrayList<>();
+            //each thread needs its own buffer position, so decode through a duplicate of the window
+            ByteBuffer buffer = window.duplicate();
+            skipped = MappedTaskReader.decodeLines(buffer, from, to, new TextRecordDecoder(), tasks);
+            return tasks;
+        }
+    }
+
+    /**
+     * Reads every task in the given text storage file using the common fork-join pool.
+     *
+     * @param path The path of the text storage file.
+     * @return An ArrayList containing the tasks in the file, in order.
+     * @throws IOException If the file cannot be read or holds a line longer than a window.
+     */
+    static ArrayList<Task> read(Path path) throws IOException {
+        return read(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads every task in the given text storage file using the given fork-join pool.
+     *
+     * @param path The path of the text storage file.
+     * @param pool The pool to decode the chunks on.
+     * @return An ArrayList containing the tasks in the file, in order.
+     * @throws IOException If the file cannot be read or holds a line longer than a window.
+     */
+    static ArrayList<Task> read(Path path, ForkJoinPool pool) throws IOException {
+        return read(path, pool, MIN_CHUNK_BYTES, MappedTaskReader.MAX_WINDOW_BYTES);
+    }
+
+    /**
+     * Reads every task in the given text storage file using the given fork-join pool,
+     * mapping at most the given number of bytes at a time and decoding chunks of at least the given size,
+     * so that a small file can be read across several windows and chunks.
+     *
+     * @param path The path of the text storage file.
+     * @param pool The pool to decode the chunks on.
+     * @param minChunkBytes The smallest number of bytes worth decoding on a separate thread.
+     * @param maxWindowBytes The most bytes of the file to map at once.
+     * @return An ArrayList containing the tasks in the file, in order.
+     * @throws IOException If the file cannot be read or holds a line longer than a window.
+     */
+    static ArrayList<Task> read(Path path, ForkJoinPool pool, int minChunkBytes, int maxWindowBytes)
+            throws IOException {
+        List<ChunkDecoder> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long windowStart = 0;
+            while (windowStart < fileSize) {
+                int windowSize = (int) Math.min(fileSize - windowStart, maxWindowBytes);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+                boolean isLastWindow = windowStart + windowSize == fileSize;
+                int end = isLastWindow ? windowSize : TextRecordDecoder.findLastLineEnd(window, 0, windowSize) + 1;
+                if (end <= 0) {
+                    throw new IOException("Storage record longer than " + maxWindowBytes + " bytes.");
+                }
+                submitChunks(window, end, pool, minChunkBytes, chunks);
+                windowStart += end;
+            }
+        }
+
+        ArrayList<ArrayList<Task>> results = new ArrayList<>(chunks.size());
+        int taskCount = 0;
+        int skipped = 0;
+        for (ChunkDecoder chunk : chunks) {
+            ArrayList<Task> result = chunk.join();
+            results.add(result);
+            taskCount += result.size();
+            skipped += chunk.skipped;
+        }
+        ArrayList<Task> tasks = new ArrayList<>(taskCount);
+        results.forEach(tasks::addAll);
+        Storage.reportDamagedRecords(path.toString(), skipped);
+        return tasks;
+    }
+
+    /**
+     * Splits the given window into chunks that end on a line break and submits them to the pool.
+     *
+     * @param window The window of the file to split.
+     * @param end The index just past the end of the last line in the window.
+     * @param pool The pool to decode the chunks on.
+     * @param minChunkBytes The smallest number of bytes worth decoding on a separate thread.
+     * @param chunks The list to add the submitted chunks to, in file order.
+     */
+    private static void submitChunks(MappedByteBuffer window, int end, ForkJoinPool pool, int minChunkBytes,
+            List<ChunkDecoder> chunks) {
+        int chunkCount = Math.max(1, Math.min(pool.getParallelism() * 4, end / minChunkBytes));
+        int chunkBytes = end / chunkCount;
+        int chunkStart = 0;
+        while (chunkStart < end) {
+            int chunkEnd = Math.min(end, chunkStart + chunkBytes);
+            chunkEnd = Math.min(end, TextRecordDecoder.findLineEnd(window, chunkEnd, end) + 1);
+            ChunkDecoder chunk = new ChunkDecoder(window, chunkStart, chunkEnd);
+            pool.execute(chunk);
+            chunks.add(chunk);
+            chunkStart = chunkEnd;
+        }
+    }
+}
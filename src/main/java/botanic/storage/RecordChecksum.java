@@ -0,0 +1,93 @@
+package botanic.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Encapsulates the behavior of sealing text storage records with a checksum.
+ * A sealed record is written as "#{crc} {record}", where {crc} is the CRC-32 of the
+ * UTF-8 bytes of the record in eight lowercase hexadecimal digits.
+ * Records written before checksums were added start with a task type or operation letter
+ * instead of '#', and are read as they are.
+ */
+final class RecordChecksum {
+    /** The first character of a sealed record. */
+    static final char MARKER = '#';
+    /** The number of characters, and bytes, before the record in a sealed line. */
+    static final int PREFIX_LENGTH = 10;
+
+    private static final int HEX_DIGITS = 8;
+
+    private RecordChecksum() {
+    }
+
+    /**
+     * Returns the CRC-32 of the given bytes.
+     *
+     * @param bytes The array holding the bytes.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     * @return The checksum.
+     */
+    static long crcOf(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the given record sealed with its checksum.
+     *
+     * @param record The record to seal.
+     * @return The sealed line to write.
+     */
+    static String seal(String record) {
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        String hex = Long.toHexString(crcOf(bytes, 0, bytes.length));
+        StringBuilder sb = new StringBuilder(PREFIX_LENGTH + record.length());
+        sb.append(MARKER);
+        for (int i = hex.length(); i < HEX_DIGITS; i++) {
+            sb.append('0');
+        }
+        return sb.append(hex).append(' ').append(record).toString();
+    }
+
+    /**
+     * Returns the record held in the given line, checking its checksum if the line is sealed.
+     *
+     * @param line A line read from a text storage file or journal.
+     * @return The record, or null if the line is sealed but its checksum does not match.
+     */
+    static String unseal(String line) {
+        if (line.isEmpty() || line.charAt(0) != MARKER) {
+            return line;
+        }
+        if (line.length() < PREFIX_LENGTH || line.charAt(PREFIX_LENGTH - 1) != ' ') {
+            return null;
+        }
+        long expected = parseHex(line, 1, PREFIX_LENGTH - 1);
+        String record = line.substring(PREFIX_LENGTH);
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        return crcOf(bytes, 0, bytes.length) == expected ? record : null;
+    }
+
+    /**
+     * Parses the hexadecimal digits between the given indexes.
+     *
+     * @param text The text holding the digits.
+     * @param from The index of the first digit.
+     * @param to The index just past the last digit.
+     * @return The number, or -1 if a character in the range is not a hexadecimal digit.
+     */
+    static long parseHex(CharSequence text, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+}
@@ -1,41 +1,153 @@
 package botanic.storage;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 import botanic.exception.BotanicException;
 import botanic.parser.Parser;
 import botanic.task.Deadline;
 import botanic.task.Event;
+import botanic.task.NameInterner;
 import botanic.task.Task;
 import botanic.task.ToDo;
 
 /**
  * Encapsulates the related fields and behavior of the Storage.
  * This class represents the class that reads and writes to the storage file in the hard disk.
+ * The storage file holds a snapshot of the task list, and a journal file next to it
+ * holds the changes made since that snapshot was written. Changes are queued in a
+ * {@link WriteBehindPersister} and written to the journal in the background.
+ * Text records are sealed with a checksum, as described in {@link RecordChecksum},
+ * and a new storage file is written in full to a temporary file before it replaces the old one,
+ * so a crash part way through a write leaves at most a damaged record at the end of the journal,
+ * which is dropped when the file is read.
  */
 public class Storage {
+    /**
+     * The formats that the storage file can be kept in.
+     */
+    public enum Format {
+        /** One line per task, as given by {@link Task#formatForStorage()}. */
+        TEXT,
+        /** Length-prefixed binary records, as described in {@link BinaryTaskFormat}. */
+        BINARY
+    }
+
+    /**
+     * The ways that a text storage file can be read.
+     */
+    public enum ReadMode {
+        /** Line by line through a Scanner. */
+        SCANNER,
+        /** Straight from the bytes of the memory-mapped file. */
+        MAPPED,
+        /** Straight from the bytes of the memory-mapped file, in chunks decoded on several threads. */
+        PARALLEL
+    }
+
+    /** The suffix appended to the storage file name to get the journal file name. */
+    private static final String JOURNAL_SUFFIX = ".journal";
+    /** The suffix of the journal that is being folded into the snapshot. */
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    /** The suffix of the new snapshot written by a compaction, before it replaces the storage file. */
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    /** The suffix of a file that is still being written. */
+    private static final String TEMP_SUFFIX = ".tmp";
+    /** The size of a text storage file, in bytes, from which it is read through memory mapping. */
+    private static final long MAPPED_READ_MIN_BYTES = 1024 * 1024;
+    /** The size of a text storage file, in bytes, from which it is read on several threads. */
+    private static final long PARALLEL_READ_MIN_BYTES = 16 * 1024 * 1024;
+    /** The pool that the names of the tasks read are shared through. */
+    private static final NameInterner INTERNER = NameInterner.getShared();
+
     private String dirPath;
     private String fileName;
     private String filePath;
+    private String journalPath;
+    private String compactingPath;
+    private String compactedPath;
     private File myFile;
+    private Format format;
+    private Compactor compactor;
+    private WriteBehindPersister persister;
+
+    /** The size of the journal file in bytes. */
+    private long journalBytes = 0;
+    /** The size of the storage file in bytes. */
+    private long snapshotBytes = 0;
+    /** The number of times a full snapshot has been written, used to discard outdated compactions. */
+    private long generation = 0;
+    /** The journal lines of the open batch of changes, or null if no batch is open. */
+    private volatile List<String> batchLines = null;
 
     /**
-     * Instantiates Storage.
+     * Instantiates Storage that keeps a text storage file and compacts its journal using the default triggers.
      *
      * @param dirPath The path to the directory that the file is stored in.
      * @param fileName The name of the storage file.
      */
     public Storage(String dirPath, String fileName) {
+        this(dirPath, fileName, Format.TEXT);
+    }
+
+    /**
+     * Instantiates Storage that keeps a storage file in the given format
+     * and compacts its journal using the default triggers.
+     *
+     * @param dirPath The path to the directory that the file is stored in.
+     * @param fileName The name of the storage file.
+     * @param format The format of the storage file.
+     */
+    public Storage(String dirPath, String fileName, Format format) {
+        this(dirPath, fileName, format,
+                Compactor.DEFAULT_MAX_JOURNAL_BYTES, Compactor.DEFAULT_MAX_JOURNAL_RATIO);
+    }
+
+    /**
+     * Instantiates Storage that keeps a storage file in the given format
+     * and compacts its journal using the given triggers.
+     *
+     * @param dirPath The path to the directory that the file is stored in.
+     * @param fileName The name of the storage file.
+     * @param format The format of the storage file.
+     * @param maxJournalBytes The size of the journal, in bytes, at which it is always compacted.
+     * @param maxJournalRatio The size of the journal, as a fraction of the storage file size,
+     *                        at which it is compacted.
+     */
+    public Storage(String dirPath, String fileName, Format format, long maxJournalBytes, double maxJournalRatio) {
         this.dirPath = dirPath;
         this.fileName = fileName;
+        this.format = format;
         filePath = dirPath + "/" + this.fileName;
+        journalPath = filePath + JOURNAL_SUFFIX;
+        compactingPath = journalPath + COMPACTING_SUFFIX;
+        compactedPath = filePath + COMPACTED_SUFFIX;
+        compactor = new Compactor(maxJournalBytes, maxJournalRatio);
+        persister = new WriteBehindPersister(this);
+    }
+
+    /**
+     * Returns the persister that queues changes before they are written to the journal.
+     *
+     * @return The write-behind persister of this storage.
+     */
+    public WriteBehindPersister getPersister() {
+        return persister;
     }
 
     /**
@@ -62,76 +174,560 @@ public class Storage {
     }
 
     /**
-     * Reads data stored in the hard disk.
+     * Parses a line of the storage file into the task it represents.
+     * The dates are taken from the end of the line, so names containing " | " are read correctly,
+     * and the name is shared with other tasks of the same name.
+     *
+     * @param data A line in the storage file, in the format given by {@link Task#formatForStorage()}.
+     * @return The task represented by the given line.
+     */
+    static Task parseTask(String data) {
+        String[] splitDatas = data.split(" \\| ", 3);
+        String taskType = splitDatas[0];
+        boolean isDone = splitDatas[1].equals("1");
+        String nameAndDates = splitDatas[2];
+
+        if (taskType.equals("T")) {
+            return new ToDo(INTERNER.intern(nameAndDates), isDone);
+        } else if (taskType.equals("D")) {
+            int endIndex = nameAndDates.lastIndexOf(" | ");
+            LocalDate end = Parser.parseDate(nameAndDates.substring(endIndex + 3));
+            return new Deadline(INTERNER.intern(nameAndDates.substring(0, endIndex)), end, isDone);
+        } else {
+            int endIndex = nameAndDates.lastIndexOf(" | ");
+            int startIndex = nameAndDates.lastIndexOf(" | ", endIndex - 1);
+            LocalDate start = Parser.parseDate(nameAndDates.substring(startIndex + 3, endIndex));
+            LocalDate end = Parser.parseDate(nameAndDates.substring(endIndex + 3));
+            return new Event(INTERNER.intern(nameAndDates.substring(0, startIndex)), start, end, isDone);
+        }
+    }
+
+    /**
+     * Reads data stored in the hard disk, picking the read mode that suits the size of the storage file.
      *
      * @return An ArrayList containing existing tasks stored in the storage.
      * @throws BotanicException If file to be read cannot be found.
      */
-    public ArrayList<Task> read() throws BotanicException {
-        ArrayList<Task> tasks = new ArrayList<>();
+    public synchronized ArrayList<Task> read() throws BotanicException {
+        createFile();
+        return read(getReadMode(myFile));
+    }
+
+    /**
+     * Reads data stored in the hard disk using the given read mode.
+     * The snapshot in the storage file is read first, then the changes
+     * recorded in the journal are replayed on top of it.
+     * The read mode only applies to text storage files.
+     *
+     * @param mode The way to read the storage file.
+     * @return An ArrayList containing existing tasks stored in the storage.
+     * @throws BotanicException If file to be read cannot be found.
+     */
+    public synchronized ArrayList<Task> read(ReadMode mode) throws BotanicException {
         try {
+            persister.flush();
             createFile();
-            //Solution below adapted from https://www.w3schools.com/java/java_files_read.asp
-            Scanner sc = new Scanner(myFile);
-            while (sc.hasNextLine()) {
-                String data = sc.nextLine();
-                String[] splitDatas = data.split(" \\| ");
-                String taskType = splitDatas[0];
-                boolean isDone = splitDatas[1].equals("1");
-
-                if (taskType.equals("T")) {
-                    ToDo t = new ToDo(splitDatas[2], isDone);
-                    tasks.add(t);
-                } else if (taskType.equals("D")) {
-                    LocalDate end = Parser.parseDate(splitDatas[3]);
-                    Deadline d = new Deadline(splitDatas[2], end, isDone);
-                    tasks.add(d);
-                } else {
-                    LocalDate start = Parser.parseDate(splitDatas[3]);
-                    LocalDate end = Parser.parseDate(splitDatas[4]);
-                    Event e = new Event(splitDatas[2], start, end, isDone);
-                    tasks.add(e);
-                }
-            }
-            sc.close();
+            recoverCompaction();
+            ArrayList<Task> tasks = readSnapshot(myFile, mode);
+            replayJournal(tasks, new File(compactingPath));
+            replayJournal(tasks, new File(journalPath));
+            snapshotBytes = myFile.length();
+            journalBytes = new File(journalPath).length();
             return tasks;
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             throw new BotanicException(e + "\nData file not found.");
         }
     }
 
     /**
-     * Writes the given string input to file using given fileWriter.
+     * Reads data stored in the hard disk without decoding the tasks in the storage file up front.
+     * Each task is decoded the first time it is needed, so the time taken does not grow with
+     * the number of tasks decoded. The storage file is copied into memory and closed before this returns,
+     * so it can be replaced by a compaction or a save while the tasks are in use.
+     * Binary storage files and text storage files too large to be copied at once are read in full instead.
      *
-     * @param fileWriter The fileWriter to use to write input.
-     * @param input The input to write into file.
+     * @return A list containing existing tasks stored in the storage.
+     * @throws BotanicException If file to be read cannot be found.
      */
-    private void writeUsingFileWriter(FileWriter fileWriter, String input) {
-        //Solution below adapted from https://www.w3schools.com/java/java_files_create.asp
+    public synchronized List<Task> readLazily() throws BotanicException {
+        createFile();
+        if (format == Format.BINARY || myFile.length() > MappedTaskReader.MAX_WINDOW_BYTES) {
+            return read();
+        }
         try {
-            fileWriter.write(input + "\n");
+            persister.flush();
+            recoverCompaction();
+            List<Task> tasks = LazyTaskList.open(myFile.toPath());
+            replayJournal(tasks, new File(compactingPath));
+            replayJournal(tasks, new File(journalPath));
+            snapshotBytes = myFile.length();
+            journalBytes = new File(journalPath).length();
+            return tasks;
         } catch (IOException e) {
-            System.out.println("Unable to write to data file.");
-            e.printStackTrace();
+            throw new BotanicException(e + "\nData file not found.");
+        }
+    }
+
+    /**
+     * Returns the read mode that suits the size of the given storage file.
+     *
+     * @param file The storage file to be read.
+     * @return The read mode to use.
+     */
+    private static ReadMode getReadMode(File file) {
+        long fileBytes = file.length();
+        if (fileBytes >= PARALLEL_READ_MIN_BYTES && Runtime.getRuntime().availableProcessors() > 1) {
+            return ReadMode.PARALLEL;
+        }
+        if (fileBytes >= MAPPED_READ_MIN_BYTES) {
+            return ReadMode.MAPPED;
+        }
+        return ReadMode.SCANNER;
+    }
+
+    /**
+     * Reads the tasks in the given snapshot file.
+     *
+     * @param file The snapshot file to read.
+     * @param mode The way to read the file if it is a text storage file.
+     * @return An ArrayList containing the tasks in the file.
+     * @throws IOException If the file cannot be found or read.
+     */
+    private ArrayList<Task> readSnapshot(File file, ReadMode mode) throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        if (format == Format.BINARY) {
+            readBinarySnapshot(file, tasks);
+            return tasks;
+        }
+        if (mode == ReadMode.MAPPED) {
+            return MappedTaskReader.read(file.toPath());
+        }
+        if (mode == ReadMode.PARALLEL) {
+            return ParallelTaskLoader.read(file.toPath());
+        }
+        //Solution below adapted from https://www.w3schools.com/java/java_files_read.asp
+        Scanner sc = new Scanner(file, StandardCharsets.UTF_8);
+        int skipped = 0;
+        while (sc.hasNextLine()) {
+            String data = sc.nextLine();
+            if (!data.isBlank()) {
+                Task task = parseIntactTask(data);
+                if (task == null) {
+                    skipped++;
+                } else {
+                    tasks.add(task);
+                }
+            }
+        }
+        sc.close();
+        reportDamagedRecords(file.getPath(), skipped);
+        return tasks;
+    }
+
+    /**
+     * Parses the given line of the storage file if it is intact.
+     *
+     * @param line A line in the storage file, sealed with a checksum or not.
+     * @return The task represented by the line, or null if the line is damaged.
+     */
+    private static Task parseIntactTask(String line) {
+        String data = RecordChecksum.unseal(line);
+        if (data == null) {
+            return null;
+        }
+        try {
+            return parseTask(data);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the tasks in the given binary storage file, up to the first damaged record.
+     * Records after a damaged one cannot be found reliably, so they are dropped.
+     *
+     * @param file The binary storage file to read.
+     * @param tasks The list to add the tasks to.
+     * @throws IOException If the file cannot be opened or is not a binary storage file.
+     */
+    private static void readBinarySnapshot(File file, List<Task> tasks) throws IOException {
+        try (BinaryTaskReader reader = new BinaryTaskReader(file.toPath())) {
+            try {
+                while (reader.hasNext()) {
+                    tasks.add(reader.next());
+                }
+            } catch (IOException e) {
+                System.out.println("Dropped the damaged end of " + file.getPath() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tells the user that damaged records were skipped while reading the given file.
+     *
+     * @param path The path of the file read.
+     * @param count The number of damaged records skipped.
+     */
+    static void reportDamagedRecords(String path, int count) {
+        if (count > 0) {
+            System.out.println("Skipped " + count + " damaged record(s) in " + path + ".");
+        }
+    }
+
+    /**
+     * Applies the changes recorded in the given journal file, in order, to the given list of tasks.
+     * Replaying stops at the first damaged record, as the changes after it were made on top of it.
+     * The damaged end is then cut off the file, and a line break is added after the last record if it lost its own,
+     * so that the records appended later do not run on from a torn line and get dropped with it.
+     *
+     * @param tasks The tasks read from the storage file.
+     * @param journal The journal file to replay.
+     * @throws IOException If the journal file exists but cannot be read or cut.
+     */
+    private void replayJournal(List<Task> tasks, File journal) throws IOException {
+        if (!journal.exists()) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(journal.toPath());
+        int intactEnd = 0;
+        while (intactEnd < bytes.length) {
+            int lineEnd = intactEnd;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            String line = new String(bytes, intactEnd, lineEnd - intactEnd, StandardCharsets.UTF_8);
+            if (!line.isBlank()) {
+                JournalRecord record = parseIntactRecord(line);
+                if (record == null) {
+                    System.out.println("Dropped the damaged end of " + journal.getPath() + ".");
+                    break;
+                }
+                record.applyTo(tasks);
+            }
+            intactEnd = Math.min(lineEnd + 1, bytes.length);
+        }
+        boolean isLineBreakMissing = intactEnd > 0 && bytes[intactEnd - 1] != '\n';
+        if (intactEnd < bytes.length || isLineBreakMissing) {
+            try (RandomAccessFile file = new RandomAccessFile(journal, "rw")) {
+                file.setLength(intactEnd);
+                if (isLineBreakMissing) {
+                    file.seek(intactEnd);
+                    file.write('\n');
+                }
+                file.getFD().sync();
+            }
         }
     }
 
+    /**
+     * Parses the given line of the journal if it is intact.
+     *
+     * @param line A line in the journal, sealed with a checksum or not.
+     * @return The record held in the line, or null if the line is damaged.
+     */
+    private static JournalRecord parseIntactRecord(String line) {
+        String data = RecordChecksum.unseal(line);
+        if (data == null) {
+            return null;
+        }
+        try {
+            return JournalRecord.parse(data);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finishes or rolls back a compaction that was interrupted before it completed.
+     * A compacted snapshot only replaces the storage file once the journal it was folded from
+     * has been deleted, so the presence of that journal decides which way to go.
+     *
+     * @throws IOException If the compacted snapshot cannot be moved into place.
+     */
+    private void recoverCompaction() throws IOException {
+        File compacted = new File(compactedPath);
+        if (!compacted.exists()) {
+            return;
+        }
+        if (new File(compactingPath).exists()) {
+            compacted.delete();
+        } else {
+            moveAtomically(compacted, myFile);
+        }
+    }
+
+    /**
+     * Replaces the target file with the source file in a single step.
+     *
+     * @param source The file to move.
+     * @param target The file to replace.
+     * @throws IOException If the file cannot be moved.
+     */
+    private static void moveAtomically(File source, File target) throws IOException {
+        Files.move(source.toPath(), target.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the given tasks into the file at the given path, replacing its contents.
+     * The tasks are written to a temporary file that is forced to the disk and then moved over
+     * the file at the given path, so the file holds either all of the old tasks or all of the new ones.
+     *
+     * @param path The path of the file to write to.
+     * @param tasks The tasks to write.
+     * @throws IOException If the file cannot be written to.
+     */
+    private void writeTasks(String path, List<Task> tasks) throws IOException {
+        File temp = new File(path + TEMP_SUFFIX);
+        if (format == Format.BINARY) {
+            try (BinaryTaskWriter writer = new BinaryTaskWriter(temp.toPath())) {
+                for (Task task : tasks) {
+                    writer.write(task);
+                }
+            }
+        } else {
+            //Solution below adapted from https://www.w3schools.com/java/java_files_create.asp
+            FileOutputStream out = new FileOutputStream(temp);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                for (Task task : tasks) {
+                    writer.write(RecordChecksum.seal(task.formatForStorage()));
+                    writer.write("\n");
+                }
+                writer.flush();
+                out.getFD().sync();
+            }
+        }
+        moveAtomically(temp, new File(path));
+    }
+
     /**
      * Updates the storage file in hard disk with the given list of tasks.
+     * As the storage file then holds every change, the journal and the changes waiting
+     * to be written to it are cleared, and any compaction still in progress is discarded.
      *
      * @param tasks Varargs of tasks.
      */
     public void writeToFile(Task... tasks) {
+        writeToFile(Arrays.asList(tasks));
+    }
+
+    /**
+     * Updates the storage file in hard disk with the given list of tasks, such as a snapshot of the task list.
+     * As the storage file then holds every change, the journal and the changes waiting
+     * to be written to it are cleared, and any compaction still in progress is discarded.
+     *
+     * @param tasks The list of tasks.
+     */
+    public synchronized void writeToFile(List<Task> tasks) {
         try {
-            //Solution below adapted from https://www.w3schools.com/java/java_files_create.asp
-            FileWriter fileWriter = new FileWriter(filePath);
-            Arrays.stream(tasks)
-                    .map(t -> t.formatForStorage())
-                    .forEach(t -> writeUsingFileWriter(fileWriter, t));
-            fileWriter.close();
+            persister.discardPending();
+            List<String> batch = batchLines;
+            if (batch != null) {
+                batch.clear();
+            }
+            writeTasks(filePath, tasks);
+            generation++;
+            new File(compactedPath).delete();
+            new File(compactingPath).delete();
+            new File(journalPath).delete();
+            snapshotBytes = new File(filePath).length();
+            journalBytes = 0;
         } catch (IOException e) {
             System.out.println("Unable to write to data file.");
             e.printStackTrace();
         }
     }
+
+    /**
+     * Folds the journal into a fresh snapshot that then replaces the storage file.
+     * The journal is moved aside first so that new changes go into a fresh journal,
+     * and the slow part of the work is done without holding the lock on this storage.
+     */
+    void compact() {
+        File compacting = new File(compactingPath);
+        long startGeneration;
+        synchronized (this) {
+            persister.flush();
+            File journal = new File(journalPath);
+            if (!compacting.exists()) {
+                if (!journal.exists() || !journal.renameTo(compacting)) {
+                    return;
+                }
+                journalBytes = 0;
+            }
+            startGeneration = generation;
+        }
+
+        File compactedTemp = new File(compactedPath + TEMP_SUFFIX);
+        try {
+            File snapshot = new File(filePath);
+            ArrayList<Task> tasks = readSnapshot(snapshot, getReadMode(snapshot));
+            replayJournal(tasks, compacting);
+            writeTasks(compactedTemp.getPath(), tasks);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Unable to compact data file.");
+            e.printStackTrace();
+            compactedTemp.delete();
+            return;
+        }
+
+        synchronized (this) {
+            try {
+                if (generation != startGeneration) {
+                    compactedTemp.delete();
+                    return;
+                }
+                File compacted = new File(compactedPath);
+                moveAtomically(compactedTemp, compacted);
+                compacting.delete();
+                moveAtomically(compacted, new File(filePath));
+                snapshotBytes = new File(filePath).length();
+            } catch (IOException e) {
+                System.out.println("Unable to compact data file.");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Appends the given lines, each sealed with its checksum, to the end of the journal file in one write
+     * and forces them to the disk, then lets the compactor decide whether the journal should be compacted.
+     *
+     * @param lines The journal lines to append.
+     */
+    synchronized void appendJournalLines(List<String> lines) {
+        createFile();
+        StringBuilder sb = new StringBuilder();
+        lines.forEach(line -> sb.append(RecordChecksum.seal(line)).append("\n"));
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream out = new FileOutputStream(journalPath, true)) {
+            out.write(bytes);
+            out.getFD().sync();
+            journalBytes += bytes.length;
+        } catch (IOException e) {
+            System.out.println("Unable to write to journal file.");
+            e.printStackTrace();
+        }
+        compactor.onJournalAppended(this, journalBytes, snapshotBytes);
+    }
+
+    /**
+     * Queues the given record to be appended to the journal file,
+     * or adds it to the open batch of changes if there is one.
+     *
+     * @param record The record of the change made to the list of tasks.
+     */
+    private void appendToJournal(JournalRecord record) {
+        List<String> batch = batchLines;
+        if (batch != null) {
+            batch.add(record.toString());
+            return;
+        }
+        persister.submit(record.toString());
+    }
+
+    /**
+     * Opens a batch of changes. Until the batch is committed, changes are held back
+     * instead of being queued one by one, and the journal is not compacted.
+     */
+    public synchronized void beginBatch() {
+        assert batchLines == null : "Batches should not be nested.";
+        batchLines = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Commits the open batch of changes in one write and one sync.
+     * If the changes are few enough, they are appended to the journal after the changes queued
+     * before the batch was opened. If they would fill the journal enough to have it compacted,
+     * the given tasks are written as a full snapshot instead, which saves appending the changes and then
+     * folding them back in. If the program stops before the commit, none of the changes in the batch are kept.
+     *
+     * @param tasks The supplier of the tasks in the list once every change in the batch is made,
+     *     only called if the tasks are written as a snapshot.
+     */
+    public synchronized void commitBatch(Supplier<? extends List<Task>> tasks) {
+        List<String> batch = batchLines;
+        batchLines = null;
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        long batchBytes = 0;
+        synchronized (batch) {
+            for (String line : batch) {
+                batchBytes += getEncodedLength(line) + 1;
+            }
+        }
+        if (compactor.shouldCompact(journalBytes + batchBytes, snapshotBytes)) {
+            writeToFile(tasks.get());
+            return;
+        }
+        persister.flush();
+        appendJournalLines(new ArrayList<>(batch));
+    }
+
+    /**
+     * Returns the number of bytes the given line takes in the journal file, once encoded in UTF-8,
+     * without encoding it.
+     *
+     * @param line The line to measure.
+     * @return The length of the line in UTF-8 bytes.
+     */
+    private static int getEncodedLength(String line) {
+        int length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                //each half of a surrogate pair counts for two of the four bytes of the pair
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes every change still waiting in the queue to the journal file.
+     */
+    public void flush() {
+        persister.flush();
+    }
+
+    /**
+     * Records the addition of the given task in the journal.
+     *
+     * @param task The task added to the end of the list.
+     */
+    public void journalAdd(Task task) {
+        appendToJournal(JournalRecord.ofAdd(task));
+    }
+
+    /**
+     * Records the deletion of the task at the given index in the journal.
+     *
+     * @param index The index of the task deleted.
+     */
+    public void journalDelete(int index) {
+        appendToJournal(JournalRecord.ofDelete(index));
+    }
+
+    /**
+     * Records the marking of the task at the given index as done in the journal.
+     *
+     * @param index The index of the task marked.
+     */
+    public void journalMark(int index) {
+        appendToJournal(JournalRecord.ofMark(index));
+    }
+
+    /**
+     * Records the marking of the task at the given index as not done in the journal.
+     *
+     * @param index The index of the task unmarked.
+     */
+    public void journalUnmark(int index) {
+        appendToJournal(JournalRecord.ofUnmark(index));
+    }
 }
@@ -0,0 +1,49 @@
+package botanic.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Encapsulates the behavior of converting storage files between the text and the binary format.
+ */
+public class TaskFileConverter {
+    /**
+     * Converts the given text storage file into a binary storage file holding the same tasks.
+     *
+     * @param textFile The path of the text storage file to read.
+     * @param binaryFile The path of the binary storage file to write.
+     * @throws IOException If either file cannot be read or written.
+     */
+    public static void textToBinary(Path textFile, Path binaryFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8);
+                BinaryTaskWriter writer = new BinaryTaskWriter(binaryFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    writer.write(Storage.parseTask(line));
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the given binary storage file into a text storage file holding the same tasks.
+     *
+     * @param binaryFile The path of the binary storage file to read.
+     * @param textFile The path of the text storage file to write.
+     * @throws IOException If either file cannot be read or written.
+     */
+    public static void binaryToText(Path binaryFile, Path textFile) throws IOException {
+        try (BinaryTaskReader reader = new BinaryTaskReader(binaryFile);
+                BufferedWriter writer = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            while (reader.hasNext()) {
+                writer.write(reader.next().formatForStorage());
+                writer.write('\n');
+            }
+        }
+    }
+}
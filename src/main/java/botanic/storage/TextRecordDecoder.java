@@ -0,0 +1,299 @@
+package botanic.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import botanic.parser.Parser;
+import botanic.task.Deadline;
+import botanic.task.Event;
+import botanic.task.NameInterner;
+import botanic.task.Task;
+import botanic.task.ToDo;
+
+/**
+ * Encapsulates the related fields and behavior of a decoder of text storage records held in a byte buffer.
+ * Records are decoded straight from the bytes of the buffer, following the same rules as
+ * {@link Storage#parseTask(String)}, without building a String for the whole line.
+ * Lines sealed with a checksum, as described in {@link RecordChecksum}, are checked before being decoded.
+ * An instance reuses its own scratch space, so it should only be used by one thread at a time.
+ */
+class TextRecordDecoder {
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    /** The number of bytes in "T | 0 | ", the part of a record before the name. */
+    private static final int NAME_OFFSET = 8;
+    /** The number of bytes in a date in the yyyy/mm/dd format. */
+    private static final int DATE_BYTES = 10;
+
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Returns the index of the end of the line starting at the given index.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the start of the line.
+     * @param limit The index to stop searching at.
+     * @return The index of the newline ending the line, or limit if there is none before it.
+     */
+    static int findLineEnd(ByteBuffer buffer, int from, int limit) {
+        int index = from;
+        while (index < limit && buffer.get(index) != NEWLINE) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the last newline before the given limit.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index to stop searching at.
+     * @param limit The index to search backwards from.
+     * @return The index of the last newline, or -1 if there is none.
+     */
+    static int findLastLineEnd(ByteBuffer buffer, int from, int limit) {
+        for (int index = limit - 1; index >= from; index--) {
+            if (buffer.get(index) == NEWLINE) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the line between the given indexes holds nothing but whitespace.
+     *
+     * @param buffer The buffer holding the records.
+     * @param start The index of the first byte of the line.
+     * @param end The index just past the last byte of the line.
+     * @return True if the line is blank, false otherwise.
+     */
+    static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int index = start; index < end; index++) {
+            byte b = buffer.get(index);
+            if (b != ' ' && b != '\t' && b != CARRIAGE_RETURN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index just past the last byte of the record on the line, dropping any carriage return.
+     *
+     * @param buffer The buffer holding the records.
+     * @param start The index of the first byte of the line.
+     * @param lineEnd The index just past the last byte of the line, excluding the newline.
+     * @return The index of the end of the record.
+     */
+    private static int trimLineEnd(ByteBuffer buffer, int start, int lineEnd) {
+        if (lineEnd > start && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+            return lineEnd - 1;
+        }
+        return lineEnd;
+    }
+
+    /**
+     * Checks that the line between the given indexes is not damaged.
+     * A sealed line is intact if its checksum matches. A line written before checksums were added
+     * is taken to be intact, as it has nothing to be checked against.
+     *
+     * @param buffer The buffer holding the records.
+     * @param start The index of the first byte of the line.
+     * @param lineEnd The index just past the last byte of the line, excluding the newline.
+     * @return True if the line is intact, false otherwise.
+     */
+    boolean isIntact(ByteBuffer buffer, int start, int lineEnd) {
+        int end = trimLineEnd(buffer, start, lineEnd);
+        if (buffer.get(start) != RecordChecksum.MARKER) {
+            return true;
+        }
+        int recordStart = start + RecordChecksum.PREFIX_LENGTH;
+        if (recordStart > end || buffer.get(recordStart - 1) != ' ') {
+            return false;
+        }
+        long expected = 0;
+        for (int index = start + 1; index < recordStart - 1; index++) {
+            int digit = Character.digit(buffer.get(index), 16);
+            if (digit < 0) {
+                return false;
+            }
+            expected = (expected << 4) | digit;
+        }
+        copyToScratch(buffer, recordStart, end);
+        return RecordChecksum.crcOf(scratch, 0, end - recordStart) == expected;
+    }
+
+    /**
+     * Decodes the record on the line between the given indexes if the line is intact.
+     *
+     * @param buffer The buffer holding the records.
+     * @param start The index of the first byte of the line.
+     * @param lineEnd The index just past the last byte of the line, excluding the newline.
+     * @return The task represented by the line, or null if the line is damaged.
+     */
+    Task decodeIfIntact(ByteBuffer buffer, int start, int lineEnd) {
+        if (!isIntact(buffer, start, lineEnd)) {
+            return null;
+        }
+        try {
+            return decode(buffer, start, lineEnd);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes the record on the line between the given indexes, without checking its checksum.
+     *
+     * @param buffer The buffer holding the records.
+     * @param lineStart The index of the first byte of the line.
+     * @param lineEnd The index just past the last byte of the line, excluding the newline.
+     * @return The task represented by the line.
+     */
+    Task decode(ByteBuffer buffer, int lineStart, int lineEnd) {
+        int end = trimLineEnd(buffer, lineStart, lineEnd);
+        int start = lineStart;
+        if (buffer.get(start) == RecordChecksum.MARKER) {
+            start += RecordChecksum.PREFIX_LENGTH;
+        }
+        if (end - start < NAME_OFFSET || !isSeparator(buffer, start + 1)
+                || !isSeparator(buffer, start + 5)) {
+            return Storage.parseTask(readString(buffer, start, end));
+        }
+        byte taskType = buffer.get(start);
+        boolean isDone = buffer.get(start + 4) == '1';
+        int nameStart = start + NAME_OFFSET;
+
+        if (taskType == 'T') {
+            return new ToDo(readName(buffer, nameStart, end), isDone);
+        } else if (taskType == 'D') {
+            int endIndex = findLastSeparator(buffer, nameStart, end);
+            LocalDate endDate = readDate(buffer, endIndex + 3, end);
+            return new Deadline(readName(buffer, nameStart, endIndex), endDate, isDone);
+        } else {
+            int endIndex = findLastSeparator(buffer, nameStart, end);
+            int startIndex = findLastSeparator(buffer, nameStart, endIndex);
+            LocalDate startDate = readDate(buffer, startIndex + 3, endIndex);
+            LocalDate endDate = readDate(buffer, endIndex + 3, end);
+            return new Event(readName(buffer, nameStart, startIndex), startDate, endDate, isDone);
+        }
+    }
+
+    /**
+     * Checks if the bytes at the given index are the " | " separator.
+     *
+     * @param buffer The buffer holding the records.
+     * @param index The index to check at.
+     * @return True if there is a separator at the index, false otherwise.
+     */
+    private static boolean isSeparator(ByteBuffer buffer, int index) {
+        return buffer.get(index) == ' ' && buffer.get(index + 1) == '|' && buffer.get(index + 2) == ' ';
+    }
+
+    /**
+     * Returns the index of the last " | " separator between the given indexes.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index to stop searching at.
+     * @param to The index to search backwards from.
+     * @return The index of the separator.
+     * @throws ArrayIndexOutOfBoundsException If there is no separator, as the record is then incomplete.
+     */
+    private static int findLastSeparator(ByteBuffer buffer, int from, int to) {
+        for (int index = to - 3; index >= from; index--) {
+            if (isSeparator(buffer, index)) {
+                return index;
+            }
+        }
+        throw new ArrayIndexOutOfBoundsException("Missing date in storage record.");
+    }
+
+    /**
+     * Decodes the UTF-8 string between the given indexes.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the first byte of the string.
+     * @param to The index just past the last byte of the string.
+     * @return The decoded string.
+     */
+    private String readString(ByteBuffer buffer, int from, int to) {
+        copyToScratch(buffer, from, to);
+        return new String(scratch, 0, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the task name between the given indexes, sharing it with other tasks of the same name.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the first byte of the name.
+     * @param to The index just past the last byte of the name.
+     * @return The decoded name.
+     */
+    private String readName(ByteBuffer buffer, int from, int to) {
+        return NameInterner.getShared().intern(readString(buffer, from, to));
+    }
+
+    /**
+     * Copies the bytes between the given indexes to the start of the scratch space, growing it if needed.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the first byte to copy.
+     * @param to The index just past the last byte to copy.
+     */
+    private void copyToScratch(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.position(from);
+        buffer.get(scratch, 0, length);
+    }
+
+    /**
+     * Decodes the date between the given indexes, which is in the yyyy/mm/dd format.
+     * Dates in any other shape are handed to {@link Parser#parseDate(String)}.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the first byte of the date.
+     * @param to The index just past the last byte of the date.
+     * @return The decoded date.
+     */
+    private LocalDate readDate(ByteBuffer buffer, int from, int to) {
+        if (to - from == DATE_BYTES && buffer.get(from + 4) == '/' && buffer.get(from + 7) == '/') {
+            int year = readNumber(buffer, from, from + 4);
+            int month = readNumber(buffer, from + 5, from + 7);
+            int day = readNumber(buffer, from + 8, from + 10);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    //fall through to the parser, which decides how to treat the date
+                }
+            }
+        }
+        return Parser.parseDate(readString(buffer, from, to));
+    }
+
+    /**
+     * Decodes the decimal digits between the given indexes.
+     *
+     * @param buffer The buffer holding the records.
+     * @param from The index of the first digit.
+     * @param to The index just past the last digit.
+     * @return The number, or -1 if a byte in the range is not a digit.
+     */
+    private static int readNumber(ByteBuffer buffer, int from, int to) {
+        int number = 0;
+        for (int index = from; index < to; index++) {
+            int digit = buffer.get(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+}
@@ -0,0 +1,117 @@
+package botanic.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encapsulates the related fields and behavior of a write-behind persister.
+ * This class represents the queue that changes to the task list wait in before being
+ * written to the journal. Changes are written together on a background thread,
+ * no later than the maximum flush delay after the first of them was queued,
+ * so the thread making a change never waits on the hard disk.
+ */
+public class WriteBehindPersister {
+    /** The default longest time, in milliseconds, that a change waits before being written. */
+    static final long DEFAULT_MAX_FLUSH_DELAY_MILLIS = 100;
+
+    private final Storage storage;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "botanic-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private List<String> pending = new ArrayList<>();
+    private boolean isFlushScheduled = false;
+    private long maxFlushDelayMillis = DEFAULT_MAX_FLUSH_DELAY_MILLIS;
+    private volatile long lastFlushNanos = 0;
+
+    /**
+     * Instantiates WriteBehindPersister.
+     *
+     * @param storage The storage that owns the journal to write to.
+     */
+    WriteBehindPersister(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the longest time that a change waits before being written.
+     * A delay of zero writes every change as soon as it is queued, on the thread that queued it.
+     *
+     * @param maxFlushDelayMillis The maximum flush delay in milliseconds.
+     */
+    public synchronized void setMaxFlushDelayMillis(long maxFlushDelayMillis) {
+        assert maxFlushDelayMillis >= 0 : "Flush delay cannot be negative.";
+        this.maxFlushDelayMillis = maxFlushDelayMillis;
+    }
+
+    /**
+     * Returns the number of changes waiting to be written.
+     *
+     * @return The queue depth.
+     */
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the time taken by the last write of queued changes to the journal.
+     *
+     * @return The duration of the last flush in nanoseconds, or 0 if nothing has been written yet.
+     */
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Queues the given journal line to be written, scheduling a flush if none is pending.
+     *
+     * @param line The journal line to write.
+     */
+    void submit(String line) {
+        boolean isImmediate;
+        synchronized (this) {
+            pending.add(line);
+            isImmediate = maxFlushDelayMillis == 0;
+            if (!isImmediate && !isFlushScheduled) {
+                isFlushScheduled = true;
+                executor.schedule(this::flush, maxFlushDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (isImmediate) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes every queued change to the journal in one append.
+     * The lock on the storage is held throughout, so a snapshot cannot be written
+     * between taking the changes off the queue and appending them.
+     */
+    public void flush() {
+        synchronized (storage) {
+            List<String> lines;
+            synchronized (this) {
+                lines = pending;
+                pending = new ArrayList<>();
+                isFlushScheduled = false;
+            }
+            if (lines.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            storage.appendJournalLines(lines);
+            lastFlushNanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Drops every queued change, used when a full snapshot that already holds them is written.
+     */
+    synchronized void discardPending() {
+        pending = new ArrayList<>();
+    }
+}
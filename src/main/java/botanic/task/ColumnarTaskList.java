@@ -0,0 +1,358 @@
+package botanic.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Encapsulates the related fields and behavior of a list of tasks stored column by column.
+ * Instead of one object per task, the list keeps a byte array of task types, a bit set of done flags,
+ * int arrays of dates as epoch days and one byte array that the UTF-8 encoded names are packed into.
+ * A Task is only made when one is asked for, and it is a copy, so a changed task must be put back
+ * with {@link #set(int, Task)}.
+ * The dates and done flags are searched in the columns themselves, so a search only makes the tasks it finds.
+ * A frozen copy of the list shares its columns until the list is next changed, when the list copies them.
+ */
+class ColumnarTaskList extends AbstractList<Task> implements RandomAccess {
+    private static final byte TYPE_TODO = 'T';
+    private static final byte TYPE_DEADLINE = 'D';
+    private static final byte TYPE_EVENT = 'E';
+    private static final int INITIAL_CAPACITY = 16;
+    /** The number of unused bytes in the name arena below which it is never compacted. */
+    private static final int MIN_ARENA_WASTE = 4096;
+
+    private int size = 0;
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private BitSet done = new BitSet();
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int[] nameOffsets = new int[INITIAL_CAPACITY];
+    private int[] nameLengths = new int[INITIAL_CAPACITY];
+    private byte[] nameArena = new byte[INITIAL_CAPACITY * 16];
+    private int arenaUsed = 0;
+    private int liveNameBytes = 0;
+    /** Whether the columns are shared with a frozen copy, and must be copied before they are changed. */
+    private boolean isShared = false;
+
+    /**
+     * Instantiates ColumnarTaskList holding no tasks.
+     */
+    ColumnarTaskList() {
+    }
+
+    /**
+     * Instantiates ColumnarTaskList holding the given tasks in the same order.
+     *
+     * @param tasks The tasks to hold.
+     */
+    ColumnarTaskList(List<Task> tasks) {
+        ensureCapacity(tasks.size());
+        tasks.forEach(this::add);
+    }
+
+    /**
+     * Returns a copy of this list that shares its columns, taken in O(1) time.
+     * The copy must not be changed, and this list copies its columns the next time it is changed.
+     *
+     * @return The frozen copy.
+     */
+    ColumnarTaskList freeze() {
+        ColumnarTaskList copy = new ColumnarTaskList();
+        copy.size = size;
+        copy.types = types;
+        copy.done = done;
+        copy.starts = starts;
+        copy.ends = ends;
+        copy.nameOffsets = nameOffsets;
+        copy.nameLengths = nameLengths;
+        copy.nameArena = nameArena;
+        copy.arenaUsed = arenaUsed;
+        copy.liveNameBytes = liveNameBytes;
+        copy.isShared = true;
+        isShared = true;
+        return copy;
+    }
+
+    /**
+     * Copies the columns if they are shared with a frozen copy, so that they can be changed.
+     */
+    private void unshare() {
+        if (!isShared) {
+            return;
+        }
+        types = types.clone();
+        done = (BitSet) done.clone();
+        starts = starts.clone();
+        ends = ends.clone();
+        nameOffsets = nameOffsets.clone();
+        nameLengths = nameLengths.clone();
+        nameArena = nameArena.clone();
+        isShared = false;
+    }
+
+    /**
+     * Makes sure every column has room for the given number of tasks.
+     *
+     * @param capacity The number of tasks to make room for.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, types.length * 2);
+        types = Arrays.copyOf(types, newCapacity);
+        starts = Arrays.copyOf(starts, newCapacity);
+        ends = Arrays.copyOf(ends, newCapacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, newCapacity);
+        nameLengths = Arrays.copyOf(nameLengths, newCapacity);
+    }
+
+    /**
+     * Copies the given name to the end of the name arena, compacting or growing the arena if needed.
+     *
+     * @param name The name to store.
+     * @return The offset of the name in the arena.
+     */
+    private int storeName(byte[] name) {
+        if (arenaUsed + name.length > nameArena.length) {
+            compactArena();
+        }
+        if (arenaUsed + name.length > nameArena.length) {
+            nameArena = Arrays.copyOf(nameArena, Math.max(arenaUsed + name.length, nameArena.length * 2));
+        }
+        int offset = arenaUsed;
+        System.arraycopy(name, 0, nameArena, offset, name.length);
+        arenaUsed += name.length;
+        liveNameBytes += name.length;
+        return offset;
+    }
+
+    /**
+     * Moves the names still in use to the front of the arena if enough of it is taken up by removed names.
+     */
+    private void compactArena() {
+        int waste = arenaUsed - liveNameBytes;
+        if (waste < MIN_ARENA_WASTE || waste < liveNameBytes) {
+            return;
+        }
+        byte[] compacted = new byte[Math.max(nameArena.length / 2, liveNameBytes * 2)];
+        int used = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(nameArena, nameOffsets[i], compacted, used, nameLengths[i]);
+            nameOffsets[i] = used;
+            used += nameLengths[i];
+        }
+        nameArena = compacted;
+        arenaUsed = used;
+    }
+
+    /**
+     * Writes the fields of the given task into the columns at the given position.
+     *
+     * @param index The position to write to.
+     * @param task The task to write.
+     */
+    private void writeColumns(int index, Task task) {
+        if (task instanceof Deadline) {
+            types[index] = TYPE_DEADLINE;
+            ends[index] = (int) ((Deadline) task).getEnd().toEpochDay();
+        } else if (task instanceof Event) {
+            types[index] = TYPE_EVENT;
+            starts[index] = (int) ((Event) task).getStart().toEpochDay();
+            ends[index] = (int) ((Event) task).getEnd().toEpochDay();
+        } else {
+            types[index] = TYPE_TODO;
+        }
+        done.set(index, task.isDone());
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        nameOffsets[index] = storeName(name);
+        nameLengths[index] = name.length;
+    }
+
+    /**
+     * Checks that the given index is within the given bound.
+     *
+     * @param index The index to check.
+     * @param bound The number of valid indexes.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * Makes a task out of the columns at the given position.
+     *
+     * @param index The position of the task.
+     * @return A new task holding the fields stored at the position.
+     */
+    @Override
+    public Task get(int index) {
+        checkIndex(index, size);
+        String name = new String(nameArena, nameOffsets[index], nameLengths[index], StandardCharsets.UTF_8);
+        boolean isDone = done.get(index);
+        if (types[index] == TYPE_DEADLINE) {
+            return new Deadline(name, LocalDate.ofEpochDay(ends[index]), isDone);
+        } else if (types[index] == TYPE_EVENT) {
+            return new Event(name, LocalDate.ofEpochDay(starts[index]), LocalDate.ofEpochDay(ends[index]), isDone);
+        } else {
+            return new ToDo(name, isDone);
+        }
+    }
+
+    /**
+     * Returns a copy of the done flags of the tasks, one bit per position, without making the tasks.
+     *
+     * @return The positions of the tasks marked as done.
+     */
+    BitSet getDoneFlags() {
+        return (BitSet) done.clone();
+    }
+
+    /**
+     * Returns the tasks with a date that falls between the given dates, both inclusive,
+     * checking the date columns instead of making every task.
+     *
+     * @param from The first day to search for as an epoch day.
+     * @param to The last day to search for as an epoch day.
+     * @return The matching tasks, in the order of the list.
+     * @throws java.util.concurrent.CancellationException If the calling thread is interrupted during the search.
+     */
+    List<Task> findByDate(long from, long to) {
+        List<Task> matches = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        for (int i = 0; i < size; i++) {
+            ParallelTaskFilter.checkCancelled(i, caller);
+            boolean isEndInRange = ends[i] >= from && ends[i] <= to;
+            if ((types[i] == TYPE_DEADLINE && isEndInRange)
+                    || (types[i] == TYPE_EVENT && (isEndInRange || (starts[i] >= from && starts[i] <= to)))) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the events with date ranges that overlap the given range, both inclusive,
+     * checking the date columns instead of making every task.
+     *
+     * @param from The first day of the range as an epoch day.
+     * @param to The last day of the range as an epoch day.
+     * @return The overlapping events, in the order of the list.
+     * @throws java.util.concurrent.CancellationException If the calling thread is interrupted during the search.
+     */
+    List<Task> findOverlapping(long from, long to) {
+        List<Task> matches = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        for (int i = 0; i < size; i++) {
+            ParallelTaskFilter.checkCancelled(i, caller);
+            if (types[i] == TYPE_EVENT && starts[i] <= to && ends[i] >= from) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Writes the fields of the given task into the columns at the given position.
+     *
+     * @param index The position of the task.
+     * @param task The task to put at the position.
+     * @return A task made from the columns before they were written.
+     */
+    @Override
+    public Task set(int index, Task task) {
+        Task previous = get(index);
+        unshare();
+        liveNameBytes -= nameLengths[index];
+        writeColumns(index, task);
+        return previous;
+    }
+
+    /**
+     * Returns the number of tasks in this list.
+     *
+     * @return The number of tasks.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts the fields of the given task into the columns at the given position,
+     * moving the tasks after it up by one.
+     *
+     * @param index The position to insert the task at.
+     * @param task The task to insert.
+     */
+    @Override
+    public void add(int index, Task task) {
+        checkIndex(index, size + 1);
+        unshare();
+        ensureCapacity(size + 1);
+        shift(index, size, 1);
+        size++;
+        writeColumns(index, task);
+        modCount++;
+    }
+
+    /**
+     * Removes the task at the given position from the columns, moving the tasks after it down by one.
+     *
+     * @param index The position of the task.
+     * @return A task made from the columns before they were changed.
+     */
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        unshare();
+        liveNameBytes -= nameLengths[index];
+        shift(index + 1, size, -1);
+        size--;
+        done.clear(size);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes every task from the columns.
+     */
+    @Override
+    public void clear() {
+        unshare();
+        size = 0;
+        done.clear();
+        arenaUsed = 0;
+        liveNameBytes = 0;
+        modCount++;
+    }
+
+    /**
+     * Moves the tasks in the given range of positions by the given distance in every column.
+     *
+     * @param from The position of the first task to move.
+     * @param to The position just past the last task to move.
+     * @param distance The number of positions to move by, 1 to make a gap or -1 to close one.
+     */
+    private void shift(int from, int to, int distance) {
+        int length = to - from;
+        System.arraycopy(types, from, types, from + distance, length);
+        System.arraycopy(starts, from, starts, from + distance, length);
+        System.arraycopy(ends, from, ends, from + distance, length);
+        System.arraycopy(nameOffsets, from, nameOffsets, from + distance, length);
+        System.arraycopy(nameLengths, from, nameLengths, from + distance, length);
+        BitSet moved = done.get(from, to);
+        done.clear(Math.min(from, from + distance), to + Math.max(distance, 0));
+        for (int i = moved.nextSetBit(0); i >= 0; i = moved.nextSetBit(i + 1)) {
+            done.set(from + distance + i);
+        }
+    }
+}
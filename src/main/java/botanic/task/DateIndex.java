@@ -0,0 +1,100 @@
+package botanic.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Encapsulates the related fields and behavior of an index from the dates of tasks to the tasks.
+ * The dates are the ones given by {@link Task#getDates()}, keyed by epoch day in a sorted map,
+ * so both a single date and a range of dates are found without checking every task.
+ * The tasks of each date are kept in the order of their ids, which is the order of the list.
+ */
+class DateIndex {
+    private NavigableMap<Long, ArrayList<Task>> postings = new TreeMap<>();
+
+    /**
+     * Adds the given task to the index, in the order of its id.
+     *
+     * @param task The task to add.
+     */
+    void add(Task task) {
+        LocalDate previous = null;
+        for (LocalDate date : task.getDates()) {
+            if (!date.equals(previous)) {
+                KeywordIndex.insertById(postings.computeIfAbsent(date.toEpochDay(), d -> new ArrayList<>()), task);
+            }
+            previous = date;
+        }
+    }
+
+    /**
+     * Removes the given task from the index.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        for (LocalDate date : task.getDates()) {
+            ArrayList<Task> tasks = postings.get(date.toEpochDay());
+            if (tasks == null) {
+                continue;
+            }
+            int index = KeywordIndex.indexOf(tasks, task.id);
+            if (index >= 0) {
+                tasks.remove(index);
+            }
+            if (tasks.isEmpty()) {
+                postings.remove(date.toEpochDay());
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks with a date that matches the given date.
+     *
+     * @param date The date to search for.
+     * @return The matching tasks, in the order of the list.
+     */
+    List<Task> findDate(LocalDate date) {
+        ArrayList<Task> tasks = postings.get(date.toEpochDay());
+        return tasks == null ? new ArrayList<>() : new ArrayList<>(tasks);
+    }
+
+    /**
+     * Returns the tasks with a date that falls between the given dates, both inclusive.
+     *
+     * @param from The earliest date to search for.
+     * @param to The latest date to search for.
+     * @return The matching tasks, in the order of the list.
+     * @throws CancellationException If the calling thread is interrupted during the search.
+     */
+    List<Task> findRange(LocalDate from, LocalDate to) {
+        Collection<ArrayList<Task>> days = postings.subMap(from.toEpochDay(), true, to.toEpochDay(), true).values();
+        List<Task> matches = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        int checked = 0;
+        for (ArrayList<Task> day : days) {
+            ParallelTaskFilter.checkCancelled(checked++, caller);
+            matches.addAll(day);
+        }
+        if (days.size() > 1) {
+            //a task with two dates in the range is found under both of them
+            ParallelTaskFilter.checkCancelled(0, caller);
+            matches.sort(Comparator.comparingLong(task -> task.id));
+            int distinctCount = 0;
+            for (Task task : matches) {
+                ParallelTaskFilter.checkCancelled(checked++, caller);
+                if (distinctCount == 0 || matches.get(distinctCount - 1) != task) {
+                    matches.set(distinctCount++, task);
+                }
+            }
+            matches.subList(distinctCount, matches.size()).clear();
+        }
+        return matches;
+    }
+}
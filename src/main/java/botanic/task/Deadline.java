@@ -35,6 +35,15 @@ public class Deadline extends Task {
         this.end = end;
     }
 
+    /**
+     * Returns the end date of this deadline.
+     *
+     * @return The end date of this deadline.
+     */
+    public LocalDate getEnd() {
+        return end;
+    }
+
     /**
      * Returns the string with a [D] icon representing this task.
      *
@@ -54,8 +63,29 @@ public class Deadline extends Task {
      */
     @Override
     public String formatForStorage() {
-        return ("D | " + super.formatForStorage()
-                + String.format(" | %s", Formatter.formatDateForStorage(end)));
+        return "D | " + super.formatForStorage() + " | " + Formatter.formatDateForStorage(end);
+    }
+
+    /**
+     * Returns the dates of this deadline that can be searched for.
+     *
+     * @return An array holding the due date.
+     */
+    @Override
+    LocalDate[] getDates() {
+        return new LocalDate[] {end};
+    }
+
+    /**
+     * Returns a new deadline with the same fields and id as this deadline.
+     *
+     * @return A copy of this deadline.
+     */
+    @Override
+    Task copy() {
+        Deadline copy = new Deadline(getName(), end, isDone());
+        copy.id = id;
+        return copy;
     }
 
     /**
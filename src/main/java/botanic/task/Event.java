@@ -42,6 +42,24 @@ public class Event extends Task {
         this.end = end;
     }
 
+    /**
+     * Returns the start date of this event.
+     *
+     * @return The start date of this event.
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end date of this event.
+     *
+     * @return The end date of this event.
+     */
+    public LocalDate getEnd() {
+        return end;
+    }
+
     /**
      * Returns the string with a [E] icon representing this task.
      *
@@ -65,7 +83,29 @@ public class Event extends Task {
     public String formatForStorage() {
         String s = Formatter.formatDateForStorage(start);
         String e = Formatter.formatDateForStorage(end);
-        return ("E | " + super.formatForStorage() + String.format(" | %s | %s", s, e));
+        return "E | " + super.formatForStorage() + " | " + s + " | " + e;
+    }
+
+    /**
+     * Returns the dates of this event that can be searched for.
+     *
+     * @return An array holding the start date and the end date.
+     */
+    @Override
+    LocalDate[] getDates() {
+        return new LocalDate[] {start, end};
+    }
+
+    /**
+     * Returns a new event with the same fields and id as this event.
+     *
+     * @return A copy of this event.
+     */
+    @Override
+    Task copy() {
+        Event copy = new Event(getName(), start, end, isDone());
+        copy.id = id;
+        return copy;
     }
 
     /**
@@ -0,0 +1,180 @@
+package botanic.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Encapsulates the related fields and behavior of an interval tree over the date ranges of events.
+ * The tree is a treap ordered by start date and then by id, where every node also holds the latest
+ * end date in its subtree. A query skips every subtree that ends too early or starts too late,
+ * so finding the k events that overlap a range takes O(log n + k) time on average.
+ */
+class EventIntervalTree {
+    /**
+     * Encapsulates the related fields of a node of the tree.
+     */
+    private static class Node {
+        private final Event event;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        /**
+         * Instantiates Node holding the given event.
+         *
+         * @param event The event to hold.
+         * @param priority The random priority that keeps the tree balanced.
+         */
+        private Node(Event event, int priority) {
+            this.event = event;
+            this.start = event.getStart().toEpochDay();
+            this.end = event.getEnd().toEpochDay();
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Checks if this node comes before the node of the given event in the order of the tree.
+         *
+         * @param otherStart The start date of the other event as an epoch day.
+         * @param otherId The id of the other event.
+         * @return True if this node comes first, false otherwise.
+         */
+        private boolean isBefore(long otherStart, long otherId) {
+            return start < otherStart || (start == otherStart && event.id < otherId);
+        }
+
+        /**
+         * Recomputes the latest end date in the subtree of this node from its children.
+         */
+        private void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+
+    private Node root;
+    private Random random = new Random();
+
+    /**
+     * Splits the given subtree into the nodes that come before the given key and the rest.
+     *
+     * @param node The root of the subtree to split.
+     * @param start The start date of the key as an epoch day.
+     * @param id The id of the key.
+     * @return The roots of the two parts, the earlier part first.
+     */
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (node.isBefore(start, id)) {
+            Node[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            node.update();
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        node.update();
+        return new Node[] {parts[0], node};
+    }
+
+    /**
+     * Joins the given subtrees, where every node of the first comes before every node of the second.
+     *
+     * @param first The root of the earlier subtree.
+     * @param second The root of the later subtree.
+     * @return The root of the joined tree.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    /**
+     * Adds the given event to the tree.
+     *
+     * @param event The event to add.
+     */
+    void add(Event event) {
+        Node node = new Node(event, random.nextInt());
+        Node[] parts = split(root, node.start, event.id);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Removes the given event from the tree.
+     *
+     * @param event The event to remove.
+     */
+    void remove(Event event) {
+        long start = event.getStart().toEpochDay();
+        Node[] parts = split(root, start, event.id);
+        Node[] rest = split(parts[1], start, event.id + 1);
+        root = merge(parts[0], rest[1]);
+    }
+
+    /**
+     * Returns the events with date ranges that overlap the given range, both inclusive.
+     *
+     * @param from The first day of the range as an epoch day.
+     * @param to The last day of the range as an epoch day.
+     * @return The overlapping events, in the order of the list.
+     * @throws CancellationException If the calling thread is interrupted during the search.
+     */
+    List<Task> findOverlapping(long from, long to) {
+        List<Task> matches = new ArrayList<>();
+        collectOverlapping(root, from, to, matches, Thread.currentThread());
+        ParallelTaskFilter.checkCancelled(0, Thread.currentThread());
+        matches.sort(Comparator.comparingLong(task -> task.id));
+        return matches;
+    }
+
+    /**
+     * Adds the events in the given subtree with date ranges that overlap the given range to the given list.
+     *
+     * @param node The root of the subtree to search.
+     * @param from The first day of the range as an epoch day.
+     * @param to The last day of the range as an epoch day.
+     * @param matches The list to add the overlapping events to.
+     * @param caller The thread that asked for the search, which cancels it when interrupted.
+     */
+    private static void collectOverlapping(Node node, long from, long to, List<Task> matches, Thread caller) {
+        while (node != null && node.maxEnd >= from) {
+            collectOverlapping(node.left, from, to, matches, caller);
+            if (node.start > to) {
+                //every event further right starts even later
+                return;
+            }
+            if (node.end >= from) {
+                ParallelTaskFilter.checkCancelled(matches.size(), caller);
+                matches.add(node.event);
+            }
+            node = node.right;
+        }
+    }
+}
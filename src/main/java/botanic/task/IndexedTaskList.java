@@ -0,0 +1,268 @@
+package botanic.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Encapsulates the related fields and behavior of a list of tasks kept in a balanced tree.
+ * The tree is a treap ordered by position, where every node holds the size of its subtree,
+ * so getting, inserting and removing the task at a position all take O(log n) time on average
+ * instead of shifting every task after it.
+ */
+class IndexedTaskList extends AbstractList<Task> {
+    /**
+     * Encapsulates the related fields of a node of the tree.
+     */
+    private static class Node {
+        private Task task;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        /**
+         * Instantiates Node holding the given task.
+         *
+         * @param task The task to hold.
+         * @param priority The random priority that keeps the tree balanced.
+         */
+        private Node(Task task, int priority) {
+            this.task = task;
+            this.priority = priority;
+        }
+
+        /**
+         * Recomputes the size of the subtree of this node from its children.
+         */
+        private void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+    private Node root;
+    private Random random = new Random();
+
+    /**
+     * Instantiates IndexedTaskList holding no tasks.
+     */
+    IndexedTaskList() {
+    }
+
+    /**
+     * Instantiates IndexedTaskList holding the given tasks in the same order, building the tree in linear time.
+     *
+     * @param tasks The tasks to hold.
+     */
+    IndexedTaskList(List<Task> tasks) {
+        //the nodes on the right edge of the tree built so far, from the root down
+        Deque<Node> rightEdge = new ArrayDeque<>();
+        for (Task task : tasks) {
+            Node node = new Node(task, random.nextInt());
+            Node last = null;
+            while (!rightEdge.isEmpty() && rightEdge.peekLast().priority < node.priority) {
+                last = rightEdge.pollLast();
+            }
+            node.left = last;
+            if (!rightEdge.isEmpty()) {
+                rightEdge.peekLast().right = node;
+            }
+            rightEdge.addLast(node);
+        }
+        root = rightEdge.peekFirst();
+        updateSizes(root);
+        modCount++;
+    }
+
+    /**
+     * Returns the size of the subtree of the given node.
+     *
+     * @param node The root of the subtree, or null for an empty subtree.
+     * @return The number of nodes in the subtree.
+     */
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Computes the size of every subtree of the given tree.
+     *
+     * @param node The root of the tree.
+     */
+    private static void updateSizes(Node node) {
+        if (node == null) {
+            return;
+        }
+        updateSizes(node.left);
+        updateSizes(node.right);
+        node.update();
+    }
+
+    /**
+     * Splits the given subtree into its first count nodes and the rest.
+     *
+     * @param node The root of the subtree to split.
+     * @param count The number of nodes in the first part.
+     * @return The roots of the two parts, the first part first.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Node[] parts = split(node.left, count);
+            node.left = parts[1];
+            node.update();
+            return new Node[] {parts[0], node};
+        }
+        Node[] parts = split(node.right, count - leftSize - 1);
+        node.right = parts[0];
+        node.update();
+        return new Node[] {node, parts[1]};
+    }
+
+    /**
+     * Joins the given subtrees, putting every node of the first before every node of the second.
+     *
+     * @param first The root of the earlier subtree.
+     * @param second The root of the later subtree.
+     * @return The root of the joined tree.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    /**
+     * Returns the node at the given position.
+     *
+     * @param index The position of the node.
+     * @return The node at the position.
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     */
+    private Node nodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node node = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (remaining < leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize) {
+                return node;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        return nodeAt(index).task;
+    }
+
+    @Override
+    public Task set(int index, Task task) {
+        Node node = nodeAt(index);
+        Task previous = node.task;
+        node.task = task;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public void add(int index, Task task) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], new Node(task, random.nextInt())), parts[1]);
+        modCount++;
+    }
+
+    @Override
+    public Task remove(int index) {
+        Task removed = nodeAt(index).task;
+        Node[] parts = split(root, index);
+        root = merge(parts[0], split(parts[1], 1)[1]);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator that walks the tree in order, taking O(1) time per task on average.
+     *
+     * @return An iterator over the tasks in the list.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<Task>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+            private final int expectedModCount = modCount;
+
+            {
+                pushLeftEdge(root);
+            }
+
+            /**
+             * Pushes the given node and its chain of left children onto the path.
+             *
+             * @param node The node to start from.
+             */
+            private void pushLeftEdge(Node node) {
+                for (Node curr = node; curr != null; curr = curr.left) {
+                    path.push(curr);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                pushLeftEdge(node.right);
+                return node.task;
+            }
+        };
+    }
+}
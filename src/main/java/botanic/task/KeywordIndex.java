@@ -0,0 +1,131 @@
+package botanic.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encapsulates the related fields and behavior of an inverted index from the words of task names to the tasks.
+ * A word is a part of the upper-cased name between two spaces, so a name padded with spaces contains
+ * " " + keyword + " " exactly when the words of the keyword appear one after another in the name,
+ * which is the rule followed by {@link TaskList#findAllMatch(String)}.
+ * The tasks of each word are kept in the order of their ids, which is the order of the list.
+ */
+class KeywordIndex {
+    private Map<String, ArrayList<Task>> postings = new HashMap<>();
+
+    /**
+     * Splits the given text into the words it is indexed under.
+     *
+     * @param text The name or keyword to split.
+     * @return The upper-cased words, including the empty words between consecutive spaces.
+     */
+    private static String[] toWords(String text) {
+        return text.toUpperCase().split(" ", -1);
+    }
+
+    /**
+     * Adds the given task to the index, in the order of its id.
+     *
+     * @param task The task to add.
+     */
+    void add(Task task) {
+        Set<String> words = new HashSet<>();
+        Collections.addAll(words, toWords(task.getName()));
+        for (String word : words) {
+            KeywordIndex.insertById(postings.computeIfAbsent(word, w -> new ArrayList<>()), task);
+        }
+    }
+
+    /**
+     * Removes the given task from the index.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        for (String word : toWords(task.getName())) {
+            ArrayList<Task> tasks = postings.get(word);
+            if (tasks == null) {
+                continue;
+            }
+            int index = indexOf(tasks, task.id);
+            if (index >= 0) {
+                tasks.remove(index);
+            }
+            if (tasks.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Inserts the given task into the given list sorted by id, keeping it sorted.
+     * A task added to the end of the task list has the largest id, so it is simply appended.
+     *
+     * @param tasks The tasks indexed under a word or trigram.
+     * @param task The task to insert.
+     */
+    static void insertById(ArrayList<Task> tasks, Task task) {
+        if (tasks.isEmpty() || tasks.get(tasks.size() - 1).id < task.id) {
+            tasks.add(task);
+            return;
+        }
+        int index = indexOf(tasks, task.id);
+        tasks.add(index < 0 ? -index - 1 : index, task);
+    }
+
+    /**
+     * Returns the position of the task with the given id in the given list sorted by id.
+     *
+     * @param tasks The tasks indexed under a word or trigram.
+     * @param id The id of the task to look for.
+     * @return The position of the task, or (-(insertion point) - 1) if it is not in the list.
+     */
+    static int indexOf(List<Task> tasks, long id) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = tasks.get(mid).id;
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Returns the tasks with names that contain the words of the given keyword one after another.
+     * Only the tasks indexed under the rarest word of the keyword are checked,
+     * so the time taken grows with the number of those tasks rather than the size of the list.
+     *
+     * @param keyword The keyword to search for.
+     * @return The matching tasks, in the order of the list.
+     */
+    List<Task> findAllMatch(String keyword) {
+        String[] words = toWords(keyword);
+        List<Task> candidates = null;
+        for (String word : words) {
+            List<Task> tasks = postings.get(word);
+            if (tasks == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || tasks.size() < candidates.size()) {
+                candidates = tasks;
+            }
+        }
+        if (words.length == 1) {
+            return new ArrayList<>(candidates);
+        }
+        String paddedKeyword = " " + keyword + " ";
+        return ParallelTaskFilter.filter(candidates, task -> task.hasKeyword(paddedKeyword));
+    }
+}
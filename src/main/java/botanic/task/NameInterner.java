@@ -0,0 +1,105 @@
+package botanic.task;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encapsulates the related fields and behavior of a pool of task names shared by the tasks that repeat them.
+ * Handing every task with the same name the same String keeps one copy of the name in memory.
+ * The pool is safe to use from several threads, and it stops taking in new names once it holds
+ * {@link #DEFAULT_MAX_NAMES} of them, so a basket of unique names cannot grow it without bound.
+ */
+public class NameInterner {
+    /** The most names the shared pool holds. */
+    public static final int DEFAULT_MAX_NAMES = 1 << 16;
+    /** The length of the longest name worth pooling, as long names are rarely repeated. */
+    public static final int MAX_NAME_LENGTH = 256;
+    /** The estimated size in bytes of a String and its array, apart from the characters. */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private static final NameInterner SHARED = new NameInterner(DEFAULT_MAX_NAMES);
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+    private final int maxNames;
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Instantiates NameInterner that holds at most the given number of names.
+     *
+     * @param maxNames The most names to hold.
+     */
+    public NameInterner(int maxNames) {
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * Returns the pool shared by the loader and the parser.
+     *
+     * @return The shared name interner.
+     */
+    public static NameInterner getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the pooled copy of the given name, adding the name to the pool if there is room.
+     *
+     * @param name The name of a task.
+     * @return A String equal to the name, shared with other tasks of the same name where possible.
+     */
+    public String intern(String name) {
+        if (name.length() > MAX_NAME_LENGTH) {
+            return name;
+        }
+        String pooled = names.get(name);
+        if (pooled == null) {
+            if (names.size() >= maxNames) {
+                return name;
+            }
+            pooled = names.putIfAbsent(name, name);
+            if (pooled == null) {
+                return name;
+            }
+        }
+        if (pooled != name) {
+            bytesSaved.addAndGet(estimateBytes(name));
+        }
+        return pooled;
+    }
+
+    /**
+     * Returns an estimate of the memory taken up by the given String.
+     *
+     * @param name The String to estimate the size of.
+     * @return The estimated size in bytes.
+     */
+    private static long estimateBytes(String name) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING_OVERHEAD_BYTES + (long) bytesPerChar * name.length();
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by handing out pooled names instead of copies.
+     *
+     * @return The estimated number of bytes saved so far.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Returns the number of names in the pool.
+     *
+     * @return The number of pooled names.
+     */
+    public int size() {
+        return names.size();
+    }
+}
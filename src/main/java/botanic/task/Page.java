@@ -0,0 +1,79 @@
+package botanic.task;
+
+/**
+ * Encapsulates the related fields and behavior of a page of a list of tasks to print,
+ * so that printing a long list only builds the rows of one page.
+ */
+public class Page {
+    /** The number of tasks on a page when no page size is given. */
+    public static final int DEFAULT_SIZE = 100;
+    /** The largest page size that can be asked for. */
+    public static final int MAX_SIZE = 1000;
+    /** The first page at the default size. */
+    public static final Page FIRST = new Page(1, DEFAULT_SIZE);
+
+    private final int number;
+    private final int size;
+
+    /**
+     * Instantiates Page.
+     *
+     * @param number The number of the page, starting from 1.
+     * @param size The number of tasks on each page, from 1 to {@link #MAX_SIZE}.
+     */
+    public Page(int number, int size) {
+        assert number >= 1 : "Page number should start from 1.";
+        assert size >= 1 && size <= MAX_SIZE : "Page size is out of range.";
+        this.number = number;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of this page.
+     *
+     * @return The page number, starting from 1.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the position of the first task on this page.
+     *
+     * @param total The number of tasks in the list.
+     * @return The position of the first task, or the number of tasks if the page is past the end of the list.
+     */
+    public int getStart(int total) {
+        return (int) Math.min(total, (long) (number - 1) * size);
+    }
+
+    /**
+     * Returns the position just past the last task on this page.
+     *
+     * @param total The number of tasks in the list.
+     * @return The position just past the last task on the page.
+     */
+    public int getEnd(int total) {
+        return (int) Math.min(total, (long) number * size);
+    }
+
+    /**
+     * Returns the number of pages that a list of the given length is split into.
+     *
+     * @param total The number of tasks in the list.
+     * @return The number of pages, at least 1.
+     */
+    public int getPageCount(int total) {
+        return Math.max(1, (total + size - 1) / size);
+    }
+
+    /**
+     * Returns whether this page is past the last page of a list of the given length.
+     *
+     * @param total The number of tasks in the list.
+     * @return True if the page holds none of the tasks, false otherwise.
+     */
+    public boolean isPastEnd(int total) {
+        return number > getPageCount(total);
+    }
+}
@@ -0,0 +1,162 @@
+package botanic.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Encapsulates the related fields and behavior of checking a list of tasks against a condition,
+ * split across a fork-join pool when the list is long enough for that to pay off.
+ * Whether a list is long enough is decided from the time that earlier checks took per task,
+ * so a cheap condition stays sequential for longer lists than a costly one.
+ * The matching tasks always come back in the order of the list.
+ * A check stops early with a CancellationException once the thread that asked for it is interrupted,
+ * so that a long search can be cancelled from the window.
+ * The other long loops over the tasks, such as building an index, look at the same flag through
+ * {@link #checkCancelled(int, Thread)}.
+ */
+class ParallelTaskFilter {
+    /** The shortest list that is ever split. */
+    private static final int MIN_PARALLEL_SIZE = 1 << 13;
+    /** The estimated time a sequential check must take before it is split. */
+    private static final long MIN_PARALLEL_NANOS = 1_000_000;
+    /** The shortest list whose sequential check is timed to update the estimate. */
+    private static final int MIN_TIMED_SIZE = 1 << 10;
+    /** The number of pieces given to each thread of the pool, so that threads that finish early can steal work. */
+    private static final int PIECES_PER_THREAD = 4;
+    /** One less than the number of tasks checked between looks at whether the check was cancelled. */
+    private static final int CANCEL_CHECK_MASK = (1 << 10) - 1;
+
+    /** The estimated time taken to check one task, updated after each timed sequential check. */
+    private static volatile double nanosPerTask = 100;
+
+    /**
+     * Encapsulates the related fields and behavior of checking a range of positions of the tasks.
+     */
+    private static class FilterTask extends RecursiveTask<List<Task>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Task> tasks;
+        private final Predicate<Task> predicate;
+        private final int from;
+        private final int to;
+        private final int pieceSize;
+        private final Thread caller;
+
+        /**
+         * Instantiates FilterTask to check the tasks between the given positions.
+         *
+         * @param tasks The tasks to check, in a list that gets a task by position in O(1) time.
+         * @param predicate The condition to check.
+         * @param from The position of the first task to check.
+         * @param to The position just past the last task to check.
+         * @param pieceSize The most tasks to check without splitting the range further.
+         * @param caller The thread that asked for the check, which cancels it when interrupted.
+         */
+        private FilterTask(List<Task> tasks, Predicate<Task> predicate, int from, int to, int pieceSize,
+                Thread caller) {
+            this.tasks = tasks;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.pieceSize = pieceSize;
+            this.caller = caller;
+        }
+
+        @Override
+        protected List<Task> compute() {
+            if (to - from <= pieceSize) {
+                return filterSequentially(tasks.subList(from, to), predicate, caller);
+            }
+            int middle = (from + to) >>> 1;
+            FilterTask first = new FilterTask(tasks, predicate, from, middle, pieceSize, caller);
+            first.fork();
+            List<Task> results = new FilterTask(tasks, predicate, middle, to, pieceSize, caller).compute();
+            List<Task> firstResults = first.join();
+            firstResults.addAll(results);
+            return firstResults;
+        }
+    }
+
+    /**
+     * Returns the tasks in the given list that meet the given condition, in the order of the list.
+     * The list must not be changed while it is checked.
+     *
+     * @param tasks The tasks to check.
+     * @param predicate The condition to check, which must be safe to call from several threads.
+     * @return The matching tasks.
+     * @throws CancellationException If the calling thread is interrupted during the check.
+     */
+    static List<Task> filter(List<Task> tasks, Predicate<Task> predicate) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int parallelism = pool.getParallelism();
+        int size = tasks.size();
+        if (parallelism < 2 || size < MIN_PARALLEL_SIZE || size * nanosPerTask < MIN_PARALLEL_NANOS) {
+            return filterAndTime(tasks, predicate);
+        }
+        //the tasks of a list without fast access by position, such as a tree, are copied out in one walk first
+        List<Task> positioned = tasks instanceof RandomAccess ? tasks : Arrays.asList(tasks.toArray(new Task[0]));
+        int pieceSize = Math.max(MIN_TIMED_SIZE, size / (parallelism * PIECES_PER_THREAD));
+        return pool.invoke(new FilterTask(positioned, predicate, 0, size, pieceSize, Thread.currentThread()));
+    }
+
+    /**
+     * Returns the tasks in the given list that meet the given condition, checked on the calling thread,
+     * and updates the estimated time per task if the list is long enough to time.
+     *
+     * @param tasks The tasks to check.
+     * @param predicate The condition to check.
+     * @return The matching tasks.
+     */
+    private static List<Task> filterAndTime(List<Task> tasks, Predicate<Task> predicate) {
+        Thread caller = Thread.currentThread();
+        if (tasks.size() < MIN_TIMED_SIZE) {
+            return filterSequentially(tasks, predicate, caller);
+        }
+        long start = System.nanoTime();
+        List<Task> results = filterSequentially(tasks, predicate, caller);
+        double measured = (double) (System.nanoTime() - start) / tasks.size();
+        nanosPerTask = (nanosPerTask + measured) / 2;
+        return results;
+    }
+
+    /**
+     * Returns the tasks in the given list that meet the given condition, checked on the calling thread.
+     *
+     * @param tasks The tasks to check.
+     * @param predicate The condition to check.
+     * @param caller The thread that asked for the check, which cancels it when interrupted.
+     * @return The matching tasks.
+     * @throws CancellationException If the thread that asked for the check is interrupted.
+     */
+    private static List<Task> filterSequentially(List<Task> tasks, Predicate<Task> predicate, Thread caller) {
+        List<Task> results = new ArrayList<>();
+        int checked = 0;
+        for (Task task : tasks) {
+            checkCancelled(checked++, caller);
+            if (predicate.test(task)) {
+                results.add(task);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Throws a CancellationException if the given thread is interrupted.
+     * The thread is only looked at once every 1024 calls, so that a loop over many tasks can call this for each task.
+     *
+     * @param checked The number of tasks the loop has gone through so far.
+     * @param caller The thread that asked for the loop, which cancels it when interrupted.
+     * @throws CancellationException If the thread that asked for the loop is interrupted.
+     */
+    static void checkCancelled(int checked, Thread caller) {
+        if ((checked & CANCEL_CHECK_MASK) == 0 && caller.isInterrupted()) {
+            throw new CancellationException("The command was cancelled.");
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package botanic.task;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Encapsulates the related fields and behavior of an immutable vector of tasks that shares its structure
+ * with the vectors it is made from.
+ * The tasks are kept in a tree of arrays of 32, with the last few tasks in a separate tail array,
+ * so getting, appending and replacing a task copy only the O(log n) arrays on the path to it
+ * and leave every other array shared with the previous vector.
+ * Tasks cannot be removed, so after a task is deleted from the TaskList,
+ * the vector behind its next snapshot is built again from the whole list in O(n) time.
+ */
+class PersistentTaskVector {
+    /** The number of bits of a position used to pick a child at each level of the tree. */
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[0];
+
+    /** The vector holding no tasks. */
+    private static final PersistentTaskVector EMPTY = new PersistentTaskVector(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    /** The number of bits to shift a position by to pick a child of the root. */
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    /**
+     * Instantiates PersistentTaskVector with the given tree and tail.
+     *
+     * @param size The number of tasks held.
+     * @param shift The number of bits to shift a position by to pick a child of the root.
+     * @param root The root of the tree holding every task before the tail.
+     * @param tail The array holding the last tasks.
+     */
+    private PersistentTaskVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the vector holding no tasks.
+     *
+     * @return The empty vector.
+     */
+    static PersistentTaskVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of tasks in this vector.
+     *
+     * @return The number of tasks.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first task in the tail.
+     *
+     * @return The number of tasks kept in the tree.
+     */
+    private int getTailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the array of 32 tasks that holds the task at the given position.
+     *
+     * @param index The position of the task.
+     * @return The leaf array or the tail holding the task.
+     */
+    private Object[] getLeaf(int index) {
+        if (index >= getTailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns the task at the given position.
+     *
+     * @param index The position of the task.
+     * @return The task at the position.
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     */
+    Task get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (Task) getLeaf(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with the given task added to the end of this vector.
+     *
+     * @param task The task to add.
+     * @return The longer vector.
+     */
+    PersistentTaskVector append(Task task) {
+        if (size - getTailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = task;
+            return new PersistentTaskVector(size + 1, shift, root, newTail);
+        }
+        PersistentTaskVector pushed = pushTail();
+        return new PersistentTaskVector(size + 1, pushed.shift, pushed.root, new Object[] {task});
+    }
+
+    /**
+     * Returns a vector with the given tasks added to the end of this vector in order.
+     * The tail is filled a run of tasks at a time, so adding many tasks copies each tail once.
+     *
+     * @param tasks The tasks to add.
+     * @return The longer vector.
+     */
+    PersistentTaskVector appendAll(Iterator<Task> tasks) {
+        PersistentTaskVector vector = this;
+        Object[] run = new Object[WIDTH];
+        while (tasks.hasNext()) {
+            if (vector.size - vector.getTailOffset() == WIDTH) {
+                vector = vector.pushTail();
+                vector = new PersistentTaskVector(vector.size + 1, vector.shift, vector.root,
+                        new Object[] {tasks.next()});
+                continue;
+            }
+            int room = WIDTH - vector.tail.length;
+            int count = 0;
+            while (count < room && tasks.hasNext()) {
+                run[count++] = tasks.next();
+            }
+            Object[] newTail = Arrays.copyOf(vector.tail, vector.tail.length + count);
+            System.arraycopy(run, 0, newTail, vector.tail.length, count);
+            vector = new PersistentTaskVector(vector.size + count, vector.shift, vector.root, newTail);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a vector holding the same tasks as this one, with the full tail moved into the tree
+     * and an empty tail left in its place. Only used by {@link #append(Task)} and {@link #appendAll(Iterator)},
+     * which add a task to the new tail straight away.
+     *
+     * @return The vector with its tail moved into the tree.
+     */
+    private PersistentTaskVector pushTail() {
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[] {root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentTaskVector(size, newShift, newRoot, EMPTY_NODE);
+    }
+
+    /**
+     * Returns a copy of the given node with the given leaf added after its last leaf.
+     *
+     * @param level The level of the node.
+     * @param node The node to add to.
+     * @param leaf The leaf array to add.
+     * @return The copied node.
+     */
+    private Object[] pushTail(int level, Object[] node, Object[] leaf) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = Arrays.copyOf(node, childIndex + 1);
+        if (level == BITS) {
+            copy[childIndex] = leaf;
+        } else if (childIndex < node.length) {
+            copy[childIndex] = pushTail(level - BITS, (Object[]) node[childIndex], leaf);
+        } else {
+            copy[childIndex] = newPath(level - BITS, leaf);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a chain of nodes from the given level down to the given leaf.
+     *
+     * @param level The level of the top node.
+     * @param leaf The leaf array at the bottom.
+     * @return The top node of the chain.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        Object[] node = leaf;
+        for (int i = 0; i < level; i += BITS) {
+            node = new Object[] {node};
+        }
+        return node;
+    }
+
+    /**
+     * Returns a vector with the task at the given position replaced by the given task.
+     *
+     * @param index The position of the task to replace.
+     * @param task The task to put in its place.
+     * @return The changed vector.
+     * @throws IndexOutOfBoundsException If the position is out of range.
+     */
+    PersistentTaskVector set(int index, Task task) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index >= getTailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = task;
+            return new PersistentTaskVector(size, shift, root, newTail);
+        }
+        return new PersistentTaskVector(size, shift, set(shift, root, index, task), tail);
+    }
+
+    /**
+     * Returns a copy of the given node with the task at the given position replaced.
+     *
+     * @param level The level of the node.
+     * @param node The node holding the position.
+     * @param index The position of the task to replace.
+     * @param task The task to put in its place.
+     * @return The copied node.
+     */
+    private static Object[] set(int level, Object[] node, int index, Task task) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = task;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            copy[childIndex] = set(level - BITS, (Object[]) node[childIndex], index, task);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns an iterator over the tasks of this vector from the given position,
+     * which steps through each leaf array instead of walking down the tree for every task.
+     *
+     * @param from The position of the first task.
+     * @return An iterator over the tasks from the position.
+     */
+    Iterator<Task> iterator(int from) {
+        return new Iterator<Task>() {
+            private int index = from;
+            private Object[] leaf = from < size ? getLeaf(from) : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Task next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = getLeaf(index);
+                }
+                return (Task) leaf[index++ & MASK];
+            }
+        };
+    }
+}
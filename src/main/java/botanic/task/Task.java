@@ -6,6 +6,13 @@ import java.time.LocalDate;
  * Encapsulates the related fields and behavior of a task.
  */
 public abstract class Task {
+    //id given by the TaskList that indexes this task, increasing in the order of the list.
+    long id;
+
+    //number of snapshots the TaskList had handed out when this task was put in it.
+    //once it hands out another, the task may be held by a snapshot and is copied before being changed.
+    int snapshotGeneration;
+
     //name of the task.
     private String name;
 
@@ -32,6 +39,24 @@ public abstract class Task {
         this.isDone = isDone;
     }
 
+    /**
+     * Returns the name of this task.
+     *
+     * @return The name of this task.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether this task is marked as done.
+     *
+     * @return True if this task is marked as done, false otherwise.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Sets isDone to given boolean value.
      *
@@ -72,7 +97,7 @@ public abstract class Task {
     public String formatForStorage() {
         String status = isDone ? "1" : "0";
         assert status == "1" || status == "0" : "Status not set properly.";
-        return (String.format("%s | %s", status, name));
+        return status + " | " + name;
     }
 
     /**
@@ -86,6 +111,22 @@ public abstract class Task {
         return formatName.contains(keyword.toUpperCase());
     }
 
+    /**
+     * Returns the dates of this task that can be searched for.
+     *
+     * @return An empty array as Task does not have a date field.
+     */
+    LocalDate[] getDates() {
+        return new LocalDate[0];
+    }
+
+    /**
+     * Returns a new task with the same fields and id as this task.
+     *
+     * @return A copy of this task.
+     */
+    abstract Task copy();
+
     /**
      * Searches for given date in the task description.
      *
@@ -1,7 +1,14 @@
 package botanic.task;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import botanic.Formatter;
 import botanic.exception.OutOfBoundsException;
@@ -9,14 +16,66 @@ import botanic.gui.Gui;
 
 /**
  * Encapsulates the related fields and behavior of the list containing tasks.
+ * The list is safe to use from several threads: changes take a write lock, while searches and printing
+ * share a read lock, so they run alongside each other and always see the list between two changes.
+ * Searches, printing and index builds stop with a CancellationException when the calling thread is interrupted,
+ * so that any command that only reads the tasks can be cancelled from the window.
+ * A long list loaded from storage is stored column by column, which takes far less memory than one object per task.
+ * Such a list builds no indexes, as they would hold every task as an object again, and is searched by checking
+ * every task instead, with dates and done flags checked in the columns themselves.
  */
 public class TaskList {
     /**
-     * An ArrayList to store the tasks.
+     * The number of tasks that must follow a deleted task before the list is moved into a tree,
+     * so that deleting near the front of a long list does not shift every task after it.
      */
-    private ArrayList<Task> tasks;
+    private static final int INDEXED_BACKING_MIN_SHIFT = 1 << 16;
+    /**
+     * The number of tasks loaded from storage from which the list is stored column by column.
+     */
+    private static final int COLUMNAR_MIN_SIZE = 1 << 20;
+
+    /**
+     * A list to store the tasks.
+     */
+    private List<Task> tasks;
     private Gui gui = new Gui();
 
+    /**
+     * The indexes of the task names, each built on the first search that needs it.
+     */
+    private volatile KeywordIndex keywordIndex;
+    private volatile TrigramIndex trigramIndex;
+    private volatile DateIndex dateIndex;
+    private volatile EventIntervalTree eventTree;
+    /**
+     * The positions of the tasks marked as done, built on the first query about done status.
+     */
+    private volatile BitSet doneTasks;
+    private volatile boolean hasIds = false;
+    /**
+     * The tasks shared with the snapshots handed out, built when a snapshot is taken.
+     * Adding and marking a task keep it up to date, while deleting a task drops it,
+     * as removing from the vector would copy every task after the deleted one,
+     * and the next snapshot builds it again.
+     */
+    private volatile PersistentTaskVector sharedTasks;
+    /**
+     * The number of snapshots handed out. A task put in the list before the last snapshot may be held by it,
+     * so marking such a task puts a changed copy in its place, while any other task is changed in place.
+     */
+    private int snapshotCount = 0;
+    private long nextId = 0;
+
+    /**
+     * The lock taken to change the list, or shared to read it.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * The lock held while an index is built, so that readers sharing the read lock build each index once.
+     */
+    private final Object indexLock = new Object();
+
     /**
      * Instantiates TaskList with no arguments given.
      */
@@ -25,34 +84,369 @@ public class TaskList {
     }
 
     /**
-     * Instantiates TaskList with the given ArrayList.
+     * Instantiates TaskList with the given list.
      *
      * @param tasks The list of our tasks fetched from hard drive storage.
      */
-    public TaskList(ArrayList<Task> tasks) {
+    public TaskList(List<Task> tasks) {
         this.tasks = tasks;
     }
 
+    /**
+     * Returns a TaskList of the given tasks loaded from storage, stored column by column if there are many of them.
+     * Moving the tasks into columns decodes each of them once, after which only the columns are kept.
+     *
+     * @param tasks The list of our tasks fetched from hard drive storage.
+     * @return The list of tasks.
+     */
+    public static TaskList fromStorage(List<Task> tasks) {
+        if (tasks.size() < COLUMNAR_MIN_SIZE) {
+            return new TaskList(tasks);
+        }
+        return new TaskList(new ColumnarTaskList(tasks));
+    }
+
+    /**
+     * Returns the columns the tasks are stored in, if the list is stored column by column.
+     *
+     * @return The columns of this list, or null if the list holds one object per task.
+     */
+    private ColumnarTaskList getColumns() {
+        return tasks instanceof ColumnarTaskList ? (ColumnarTaskList) tasks : null;
+    }
+
     /**
      * Returns this list of tasks.
+     * The list returned is the live list, which is not guarded by the lock of this TaskList.
      *
-     * @return The ArrayList containing the tasks.
+     * @return The list containing the tasks.
      */
-    public ArrayList<Task> getTaskList() {
+    public List<Task> getTaskList() {
         return tasks;
     }
 
+    /**
+     * Returns an unchanging view of the tasks in the list as they are now, taken in O(1) time
+     * without copying the list, so it can be read by another thread while the list keeps changing.
+     * The first snapshot of a list, and the first after a task is deleted, builds the shared vector
+     * behind it in O(n) time. A list stored column by column is frozen instead, and copies its columns
+     * the next time it is changed.
+     *
+     * @return A snapshot of the list.
+     */
+    public TaskSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            ColumnarTaskList columns = getColumns();
+            if (columns != null) {
+                synchronized (indexLock) {
+                    return new TaskSnapshot(columns.freeze());
+                }
+            }
+            synchronized (indexLock) {
+                if (sharedTasks == null) {
+                    sharedTasks = PersistentTaskVector.empty().appendAll(tasks.iterator());
+                }
+                snapshotCount++;
+                return new TaskSnapshot(sharedTasks);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether the given task of the list may be held by a snapshot handed out,
+     * in which case it must not be changed.
+     *
+     * @param task A task of the list.
+     * @return True if a snapshot was handed out after the task was put in the list, false otherwise.
+     */
+    private boolean isShared(Task task) {
+        return task.snapshotGeneration < snapshotCount;
+    }
+
+    /**
+     * Returns the index of the words in the task names, building it from the tasks in the list if needed.
+     *
+     * @return The keyword index of this list.
+     */
+    private KeywordIndex getKeywordIndex() {
+        if (keywordIndex == null) {
+            synchronized (indexLock) {
+                if (keywordIndex == null) {
+                    assignIds();
+                    KeywordIndex index = new KeywordIndex();
+                    addAll(index::add);
+                    keywordIndex = index;
+                }
+            }
+        }
+        return keywordIndex;
+    }
+
+    /**
+     * Returns the index of the trigrams in the task names, building it from the tasks in the list if needed.
+     *
+     * @return The trigram index of this list.
+     */
+    private TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            synchronized (indexLock) {
+                if (trigramIndex == null) {
+                    assignIds();
+                    TrigramIndex index = new TrigramIndex();
+                    addAll(index::add);
+                    trigramIndex = index;
+                }
+            }
+        }
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the index of the dates of the tasks, building it from the tasks in the list if needed.
+     *
+     * @return The date index of this list.
+     */
+    private DateIndex getDateIndex() {
+        if (dateIndex == null) {
+            synchronized (indexLock) {
+                if (dateIndex == null) {
+                    assignIds();
+                    DateIndex index = new DateIndex();
+                    addAll(index::add);
+                    dateIndex = index;
+                }
+            }
+        }
+        return dateIndex;
+    }
+
+    /**
+     * Returns the interval tree over the date ranges of the events, building it from the tasks in the list if needed.
+     *
+     * @return The event interval tree of this list.
+     */
+    private EventIntervalTree getEventTree() {
+        if (eventTree == null) {
+            synchronized (indexLock) {
+                if (eventTree == null) {
+                    assignIds();
+                    EventIntervalTree tree = new EventIntervalTree();
+                    addAll(task -> {
+                        if (task instanceof Event) {
+                            tree.add((Event) task);
+                        }
+                    });
+                    eventTree = tree;
+                }
+            }
+        }
+        return eventTree;
+    }
+
+    /**
+     * Returns the positions of the tasks marked as done, building the bitmap from the tasks in the list if needed.
+     *
+     * @return The bitmap of done tasks of this list.
+     */
+    private BitSet getDoneTasks() {
+        if (doneTasks == null) {
+            synchronized (indexLock) {
+                if (doneTasks == null && getColumns() != null) {
+                    doneTasks = getColumns().getDoneFlags();
+                } else if (doneTasks == null) {
+                    BitSet bits = new BitSet(tasks.size());
+                    Thread caller = Thread.currentThread();
+                    int index = 0;
+                    for (Task task : tasks) {
+                        ParallelTaskFilter.checkCancelled(index, caller);
+                        bits.set(index++, task.isDone());
+                    }
+                    doneTasks = bits;
+                }
+            }
+        }
+        return doneTasks;
+    }
+
+    /**
+     * Passes every task in the list to the given consumer, in the order of the list, to build an index.
+     * The index is only stored once it is complete, so a build that is cancelled leaves no index behind.
+     *
+     * @param consumer The consumer that adds a task to the index being built.
+     * @throws CancellationException If the calling thread is interrupted during the build.
+     */
+    private void addAll(Consumer<Task> consumer) {
+        Thread caller = Thread.currentThread();
+        int checked = 0;
+        for (Task task : tasks) {
+            ParallelTaskFilter.checkCancelled(checked++, caller);
+            consumer.accept(task);
+        }
+    }
+
+    /**
+     * Removes the bit of the task at the given position from the done bitmap, if it has been built,
+     * moving the bits of the tasks after it down by one.
+     *
+     * @param index The position of the deleted task.
+     */
+    private void removeDoneBit(int index) {
+        if (doneTasks == null) {
+            return;
+        }
+        BitSet after = doneTasks.get(index + 1, Math.max(index + 1, doneTasks.length()));
+        doneTasks.clear(index, Math.max(index, doneTasks.length()));
+        for (int i = after.nextSetBit(0); i >= 0; i = after.nextSetBit(i + 1)) {
+            doneTasks.set(index + i);
+        }
+    }
+
+    /**
+     * Adds the given task to the indexes built so far.
+     *
+     * @param task The task added.
+     * @param isNew True if the task has just been added to the end of the list and needs an id.
+     */
+    private void addToIndexes(Task task, boolean isNew) {
+        if (isNew && hasIds) {
+            task.id = nextId++;
+        }
+        if (keywordIndex != null) {
+            keywordIndex.add(task);
+        }
+        if (trigramIndex != null) {
+            trigramIndex.add(task);
+        }
+        if (dateIndex != null) {
+            dateIndex.add(task);
+        }
+        if (eventTree != null && task instanceof Event) {
+            eventTree.add((Event) task);
+        }
+    }
+
+    /**
+     * Removes the given task, which has just been removed from the list, from the indexes built so far.
+     *
+     * @param task The task removed.
+     */
+    private void removeFromIndexes(Task task) {
+        if (keywordIndex != null) {
+            keywordIndex.remove(task);
+        }
+        if (trigramIndex != null) {
+            trigramIndex.remove(task);
+        }
+        if (dateIndex != null) {
+            dateIndex.remove(task);
+        }
+        if (eventTree != null && task instanceof Event) {
+            eventTree.remove((Event) task);
+        }
+    }
+
+    /**
+     * Puts the given task, a changed copy of the task at the given index, back into the list.
+     * Marking a task shared with snapshots changes a copy of it, so the indexes are pointed at the new copy.
+     *
+     * @param index The index of the task.
+     * @param task The changed task.
+     */
+    private void replace(int index, Task task) {
+        task.snapshotGeneration = snapshotCount;
+        if (sharedTasks != null) {
+            sharedTasks = sharedTasks.set(index, task);
+        }
+        Task previous = tasks.set(index, task);
+        if (previous != task) {
+            removeFromIndexes(previous);
+            task.id = previous.id;
+            addToIndexes(task, false);
+        }
+    }
+
+    /**
+     * Gives every task in the list an id in the order of the list, if that has not been done yet.
+     * It is called while holding the index lock.
+     */
+    private void assignIds() {
+        if (hasIds) {
+            return;
+        }
+        long id = nextId;
+        for (Task task : tasks) {
+            task.id = id++;
+        }
+        nextId = id;
+        hasIds = true;
+    }
+
     /**
      * Adds tasks into the list and prints out completion message when done.
+     * If the task is an event, the events in the list that overlap with it are pointed out too.
      *
      * @param task The task to be added.
      * @return A string message to signify a successful task addition.
      */
     public String add(Task task) {
+        lock.writeLock().lock();
+        try {
+            List<Task> conflicts = new ArrayList<>();
+            if (task instanceof Event) {
+                Event event = (Event) task;
+                long start = event.getStart().toEpochDay();
+                long end = event.getEnd().toEpochDay();
+                ColumnarTaskList columns = getColumns();
+                conflicts = columns != null
+                        ? columns.findOverlapping(start, end)
+                        : getEventTree().findOverlapping(start, end);
+            }
+            append(task);
+            String response = gui.getAddSuccessMsg(task, tasks.size());
+            if (!conflicts.isEmpty()) {
+                response += gui.getEventConflictMsg(new TaskList(conflicts));
+            }
+            return response;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the given task into the list without building a completion message or looking for overlapping events,
+     * for adding tasks in a batch whose responses are not shown.
+     *
+     * @param task The task to be added.
+     */
+    public void addQuietly(Task task) {
+        lock.writeLock().lock();
+        try {
+            append(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the given task to the end of the list and to every index built so far.
+     * The write lock must be held.
+     *
+     * @param task The task to be added.
+     */
+    private void append(Task task) {
+        task.snapshotGeneration = snapshotCount;
         boolean isAdded = tasks.add(task);
         assert isAdded : "Task is not added to the task basket successfully.";
-        String response = gui.getAddSuccessMsg(task, tasks.size());
-        return response;
+        addToIndexes(task, true);
+        if (sharedTasks != null) {
+            sharedTasks = sharedTasks.append(task);
+        }
+        if (doneTasks != null) {
+            doneTasks.set(tasks.size() - 1, task.isDone());
+        }
     }
 
     /**
@@ -64,14 +458,26 @@ public class TaskList {
      *                              or more than the index of the last list element.
      */
     public String delete(int index) throws OutOfBoundsException {
-        if (index < 0 || index >= tasks.size()) {
-            throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
-        }
-        assert index > 0 && index < tasks.size() : "Index given is out of bounds";
+        lock.writeLock().lock();
+        try {
+            if (index < 0 || index >= tasks.size()) {
+                throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
+            }
+            assert index >= 0 && index < tasks.size() : "Index given is out of bounds";
 
-        Task removed = tasks.remove(index);
-        assert removed != null : "Task at index not removed.";
-        return gui.getDeleteSuccessMsg(removed, tasks.size());
+            if (tasks.size() - index > INDEXED_BACKING_MIN_SHIFT && !(tasks instanceof IndexedTaskList)
+                    && getColumns() == null) {
+                tasks = new IndexedTaskList(tasks);
+            }
+            Task removed = tasks.remove(index);
+            assert removed != null : "Task at index not removed.";
+            removeFromIndexes(removed);
+            removeDoneBit(index);
+            sharedTasks = null;
+            return gui.getDeleteSuccessMsg(removed, tasks.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -83,14 +489,26 @@ public class TaskList {
      *                              or more than the index of the last list element.
      */
     public String markIsDone(int index) throws OutOfBoundsException {
-        if (index < 0 || index >= tasks.size()) {
-            throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
-        }
-        assert index > 0 && index < tasks.size() : "Index given is out of bounds";
+        lock.writeLock().lock();
+        try {
+            if (index < 0 || index >= tasks.size()) {
+                throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
+            }
+            assert index >= 0 && index < tasks.size() : "Index given is out of bounds";
 
-        Task task = tasks.get(index);
-        task.setDone(true);
-        return gui.getMarkSuccessMsg(task);
+            Task task = tasks.get(index);
+            if (isShared(task)) {
+                task = task.copy();
+            }
+            task.setDone(true);
+            replace(index, task);
+            if (doneTasks != null) {
+                doneTasks.set(index, true);
+            }
+            return gui.getMarkSuccessMsg(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -102,101 +520,394 @@ public class TaskList {
      *                              or more than the index of the last list element.
      */
     public String unmarkIsDone(int index) throws OutOfBoundsException {
-        if (index < 0 || index >= tasks.size()) {
-            throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
-        }
-        assert index > 0 && index < tasks.size() : "Index given is out of bounds";
+        lock.writeLock().lock();
+        try {
+            if (index < 0 || index >= tasks.size()) {
+                throw new OutOfBoundsException(gui.getOutOfBoundsErrorMsg());
+            }
+            assert index >= 0 && index < tasks.size() : "Index given is out of bounds";
 
-        Task task = tasks.get(index);
-        task.setDone(false);
-        return gui.getUnmarkSuccessMsg(task);
+            Task task = tasks.get(index);
+            if (isShared(task)) {
+                task = task.copy();
+            }
+            task.setDone(false);
+            replace(index, task);
+            if (doneTasks != null) {
+                doneTasks.set(index, false);
+            }
+            return gui.getUnmarkSuccessMsg(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
-     * Appends all the tasks in the list into a string.
+     * Appends the tasks on the first page of the list into a string.
      *
-     * @return A string representation of the list of all the tasks.
+     * @return A string representation of the first page of the tasks.
      */
     public String print() {
-        int size = tasks.size();
-        if (size == 0) {
-            return gui.getNoItemErrorMsg();
+        return print(Page.FIRST);
+    }
+
+    /**
+     * Appends the tasks on the given page of the list into a string.
+     *
+     * @param page The page of the list to print.
+     * @return A string representation of the tasks on the page.
+     */
+    public String print(Page page) {
+        lock.readLock().lock();
+        try {
+            int size = tasks.size();
+            if (size == 0) {
+                return gui.getNoItemErrorMsg();
+            }
+            assert size != 0 : "List size is 0";
+            return gui.printTasks(this, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the tasks on the first page of the tasks that are marked as done, or the tasks that are not,
+     * into a string.
+     *
+     * @param isDone True to list the done tasks, false to list the pending tasks.
+     * @return A string representation of the first page of matching tasks.
+     */
+    public String printByStatus(boolean isDone) {
+        return printByStatus(isDone, Page.FIRST);
+    }
+
+    /**
+     * Appends the tasks on the given page of the tasks that are marked as done, or the tasks that are not,
+     * into a string.
+     * The tasks are found from the done bitmap and keep their numbers in the full list.
+     *
+     * @param isDone True to list the done tasks, false to list the pending tasks.
+     * @param page The page of the matching tasks to print.
+     * @return A string representation of the matching tasks on the page.
+     */
+    public String printByStatus(boolean isDone, Page page) {
+        lock.readLock().lock();
+        try {
+            BitSet done = getDoneTasks();
+            int size = tasks.size();
+            int doneCount = done.cardinality();
+            int total = isDone ? doneCount : size - doneCount;
+            String status = isDone ? "done" : "pending";
+            if (total == 0) {
+                return gui.getNoStatusItemErrorMsg(status);
+            }
+            if (page.isPastEnd(total)) {
+                return gui.getNoPageErrorMsg(page, total);
+            }
+            StringBuilder sb = new StringBuilder();
+            int skipped = page.getStart(total);
+            int rowCount = page.getEnd(total) - skipped;
+            int index = isDone ? done.nextSetBit(0) : done.nextClearBit(0);
+            Thread caller = Thread.currentThread();
+            int checked = 0;
+            while (index >= 0 && index < size && rowCount > 0) {
+                ParallelTaskFilter.checkCancelled(checked++, caller);
+                if (skipped > 0) {
+                    skipped--;
+                } else {
+                    appendRow(sb, index + 1, tasks.get(index));
+                    rowCount--;
+                }
+                index = isDone ? done.nextSetBit(index + 1) : done.nextClearBit(index + 1);
+            }
+            return gui.printTasksByStatus(status, sb.toString()) + gui.getPageFooter(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the tasks in the list that are done and pending, using the done bitmap.
+     *
+     * @return A string message with the counts.
+     */
+    public String getStats() {
+        lock.readLock().lock();
+        try {
+            int size = tasks.size();
+            int doneCount = getDoneTasks().cardinality();
+            return gui.getStatsMsg(size, doneCount, size - doneCount);
+        } finally {
+            lock.readLock().unlock();
         }
-        assert size != 0 : "List size is 0";
-        return gui.printTasks(this);
     }
 
     /**
      * Searches for tasks with names that completely matches
-     * the given keyword (case-insensitive) and returns the result.
+     * the given keyword (case-insensitive) and returns the first page of the result.
      *
      * @param keyword The keyword to search for.
      * @return The results of the search.
      */
     public String findAllMatch(String keyword) {
-        int size = tasks.size();
-        TaskList searchResult = new TaskList();
-        for (int currIndex = 0; currIndex < size; currIndex++) {
-            Task curr = tasks.get(currIndex);
-            if (curr.hasKeyword(" " + keyword + " ")) {
-                searchResult.add(curr);
+        return findAllMatch(keyword, Page.FIRST);
+    }
+
+    /**
+     * Searches for tasks with names that completely matches
+     * the given keyword (case-insensitive) and returns the result.
+     * The tasks are looked up in the keyword index instead of checking every task,
+     * unless the list is stored column by column.
+     *
+     * @param keyword The keyword to search for.
+     * @param page The page of the results to print.
+     * @return The results of the search.
+     */
+    public String findAllMatch(String keyword, Page page) {
+        lock.readLock().lock();
+        try {
+            TaskList searchResult;
+            if (getColumns() != null) {
+                searchResult = new TaskList(
+                        ParallelTaskFilter.filter(tasks, task -> task.hasKeyword(" " + keyword + " ")));
+            } else {
+                searchResult = new TaskList(getKeywordIndex().findAllMatch(keyword));
             }
+            int resultSize = searchResult.getTaskList().size();
+            if (resultSize > 0) {
+                return gui.getFindResult(searchResult, page);
+            }
+            assert resultSize == 0 : "Items found but not printed.";
+            return gui.getNoCompleteMatchErrorMsg(keyword);
+        } finally {
+            lock.readLock().unlock();
         }
-        int resultSize = searchResult.getTaskList().size();
-        if (resultSize > 0) {
-            return gui.getFindResult(searchResult);
-        }
-        assert resultSize < 0 : "Items found but not printed.";
-        return gui.getNoCompleteMatchErrorMsg(keyword);
     }
 
     /**
      * Searches for tasks with names that partially or completely matches
-     * the given keyword (case-insensitive) and returns the result.
+     * the given keyword (case-insensitive) and returns the first page of the result.
      *
      * @param keyword The keyword to search for.
      * @return The results of the search.
      */
     public String findFlexibly(String keyword) {
-        int size = tasks.size();
-        TaskList searchResult = new TaskList();
-        for (int currIndex = 0; currIndex < size; currIndex++) {
-            Task curr = tasks.get(currIndex);
-            if (curr.hasKeyword(keyword)) {
-                searchResult.add(curr);
+        return findFlexibly(keyword, Page.FIRST);
+    }
+
+    /**
+     * Searches for tasks with names that partially or completely matches
+     * the given keyword (case-insensitive) and returns the result.
+     * Keywords of at least three characters are looked up in the trigram index instead of checking every task.
+     * Shorter keywords, and any keyword when the list is stored column by column, are checked against every task,
+     * split across threads when the list is long.
+     *
+     * @param keyword The keyword to search for.
+     * @param page The page of the results to print.
+     * @return The results of the search.
+     */
+    public String findFlexibly(String keyword, Page page) {
+        lock.readLock().lock();
+        try {
+            TaskList searchResult;
+            if (keyword.toUpperCase().length() >= TrigramIndex.GRAM_LENGTH && getColumns() == null) {
+                searchResult = new TaskList(getTrigramIndex().findFlexibly(keyword));
+            } else {
+                searchResult = new TaskList(ParallelTaskFilter.filter(tasks, task -> task.hasKeyword(keyword)));
             }
+            int resultSize = searchResult.getTaskList().size();
+            if (resultSize > 0) {
+                return gui.getFindResult(searchResult, page);
+            }
+            assert resultSize == 0 : "Items found but not printed.";
+            return gui.getNoPartialMatchErrorMsg(keyword);
+        } finally {
+            lock.readLock().unlock();
         }
-        int resultSize = searchResult.getTaskList().size();
-        if (resultSize > 0) {
-            return gui.getFindResult(searchResult);
-        }
-        assert resultSize < 0 : "Items found but not printed.";
-        return gui.getNoPartialMatchErrorMsg(keyword);
     }
 
     /**
      * Searches for tasks with dates that matches
-     * the given date and returns the result.
+     * the given date and returns the first page of the result.
      *
      * @param dateToFind The date to search for.
      * @return The results of the search.
      */
     public String findDate(LocalDate dateToFind) {
-        int size = tasks.size();
-        TaskList searchResult = new TaskList();
-        for (int currIndex = 0; currIndex < size; currIndex++) {
-            Task curr = tasks.get(currIndex);
-            if (curr.hasDate(dateToFind)) {
-                searchResult.add(curr);
+        return findDate(dateToFind, Page.FIRST);
+    }
+
+    /**
+     * Searches for tasks with dates that matches
+     * the given date and returns the result.
+     *
+     * The tasks are looked up in the date index instead of checking every task,
+     * unless the list is stored column by column, when the date columns are checked instead.
+     *
+     * @param dateToFind The date to search for.
+     * @param page The page of the results to print.
+     * @return The results of the search.
+     */
+    public String findDate(LocalDate dateToFind, Page page) {
+        lock.readLock().lock();
+        try {
+            long epochDay = dateToFind.toEpochDay();
+            ColumnarTaskList columns = getColumns();
+            TaskList searchResult = new TaskList(columns != null
+                    ? columns.findByDate(epochDay, epochDay)
+                    : getDateIndex().findDate(dateToFind));
+            int resultSize = searchResult.getTaskList().size();
+            if (resultSize > 0) {
+                return gui.getFindResult(searchResult, page);
             }
+            assert resultSize == 0 : "Items found but not printed.";
+            String dateFormatted = Formatter.formatDateForPrint(dateToFind);
+            return gui.getNoDateMatchErrorMsg(dateFormatted);
+        } finally {
+            lock.readLock().unlock();
         }
-        int resultSize = searchResult.getTaskList().size();
-        if (resultSize > 0) {
-            return gui.getFindResult(searchResult);
+    }
+
+    /**
+     * Searches for tasks with dates that fall between
+     * the given dates (inclusive) and returns the first page of the result.
+     *
+     * @param from The earliest date to search for.
+     * @param to The latest date to search for.
+     * @return The results of the search.
+     */
+    public String findRange(LocalDate from, LocalDate to) {
+        return findRange(from, to, Page.FIRST);
+    }
+
+    /**
+     * Searches for tasks with dates that fall between
+     * the given dates (inclusive) and returns the result.
+     *
+     * @param from The earliest date to search for.
+     * @param to The latest date to search for.
+     * @param page The page of the results to print.
+     * @return The results of the search.
+     */
+    public String findRange(LocalDate from, LocalDate to, Page page) {
+        lock.readLock().lock();
+        try {
+            ColumnarTaskList columns = getColumns();
+            TaskList searchResult = new TaskList(columns != null
+                    ? columns.findByDate(from.toEpochDay(), to.toEpochDay())
+                    : getDateIndex().findRange(from, to));
+            int resultSize = searchResult.getTaskList().size();
+            if (resultSize > 0) {
+                return gui.getFindResult(searchResult, page);
+            }
+            assert resultSize == 0 : "Items found but not printed.";
+            String fromFormatted = Formatter.formatDateForPrint(from);
+            String toFormatted = Formatter.formatDateForPrint(to);
+            return gui.getNoDateRangeMatchErrorMsg(fromFormatted, toFormatted);
+        } finally {
+            lock.readLock().unlock();
         }
-        assert resultSize < 0 : "Items found but not printed.";
-        String dateFormatted = Formatter.formatDateForPrint(dateToFind);
-        return gui.getNoDateMatchErrorMsg(dateFormatted);
+    }
+
+    /**
+     * Searches for events that are happening on the given date
+     * and returns the first page of the result.
+     *
+     * @param date The date to search for.
+     * @return The results of the search.
+     */
+    public String findActive(LocalDate date) {
+        return findActive(date, Page.FIRST);
+    }
+
+    /**
+     * Searches for events that are happening on the given date,
+     * from their start date to their end date (inclusive), and returns the result.
+     *
+     * @param date The date to search for.
+     * @param page The page of the results to print.
+     * @return The results of the search.
+     */
+    public String findActive(LocalDate date, Page page) {
+        lock.readLock().lock();
+        try {
+            long epochDay = date.toEpochDay();
+            ColumnarTaskList columns = getColumns();
+            TaskList searchResult = new TaskList(columns != null
+                    ? columns.findOverlapping(epochDay, epochDay)
+                    : getEventTree().findOverlapping(epochDay, epochDay));
+            int resultSize = searchResult.getTaskList().size();
+            if (resultSize > 0) {
+                return gui.getFindResult(searchResult, page);
+            }
+            assert resultSize == 0 : "Items found but not printed.";
+            String dateFormatted = Formatter.formatDateForPrint(date);
+            return gui.getNoActiveMatchErrorMsg(dateFormatted);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tasks in the list.
+     *
+     * @return The number of tasks.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the numbered tasks on the given page of the list to the given output, one row at a time,
+     * so that the memory and time taken grow with the size of the page rather than the size of the list.
+     *
+     * @param out The output to write to.
+     * @param page The page of the list to write.
+     * @throws IOException If the output cannot be written to.
+     */
+    public void render(Appendable out, Page page) throws IOException {
+        lock.readLock().lock();
+        try {
+            int size = tasks.size();
+            int start = page.getStart(size);
+            int number = start + 1;
+            Thread caller = Thread.currentThread();
+            for (Task task : tasks.subList(start, page.getEnd(size))) {
+                ParallelTaskFilter.checkCancelled(number, caller);
+                appendRow(out, number++, task);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the given task as a numbered row to the given output.
+     *
+     * @param out The output to write to.
+     * @param number The number of the task.
+     * @param task The task to write.
+     * @throws IOException If the output cannot be written to.
+     */
+    private static void appendRow(Appendable out, int number, Task task) throws IOException {
+        out.append(Integer.toString(number)).append(". ").append(task.toString()).append('\n');
+    }
+
+    /**
+     * Writes the given task as a numbered row to the given string builder.
+     *
+     * @param sb The string builder to write to.
+     * @param number The number of the task.
+     * @param task The task to write.
+     */
+    private static void appendRow(StringBuilder sb, int number, Task task) {
+        sb.append(number).append(". ").append(task).append('\n');
     }
 
     /**
@@ -206,11 +917,16 @@ public class TaskList {
      */
     @Override
     public String toString() {
-        int size = tasks.size();
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < size; i++) {
-            sb.append(String.format("%d. %s\n", (i + 1), tasks.get(i)));
+        lock.readLock().lock();
+        try {
+            StringBuilder sb = new StringBuilder();
+            int number = 1;
+            for (Task task : tasks) {
+                appendRow(sb, number++, task);
+            }
+            return sb.toString();
+        } finally {
+            lock.readLock().unlock();
         }
-        return sb.toString();
     }
 }
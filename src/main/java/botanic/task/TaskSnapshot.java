@@ -0,0 +1,52 @@
+package botanic.task;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+/**
+ * Encapsulates the related fields and behavior of an unchanging view of a TaskList at one point in time.
+ * A snapshot is taken in O(1) time without copying the list, as it shares its structure with the list,
+ * and later changes to the list do not show up in it, so it can be read by another thread while the user
+ * keeps changing the list. The tasks in a snapshot should not be changed.
+ * A snapshot of a list stored column by column holds a frozen copy of the columns instead of a vector.
+ */
+public class TaskSnapshot extends AbstractList<Task> implements RandomAccess {
+    private final PersistentTaskVector tasks;
+    private final ColumnarTaskList columns;
+
+    /**
+     * Instantiates TaskSnapshot over the given vector.
+     *
+     * @param tasks The vector of tasks at the time of the snapshot.
+     */
+    TaskSnapshot(PersistentTaskVector tasks) {
+        this.tasks = tasks;
+        this.columns = null;
+    }
+
+    /**
+     * Instantiates TaskSnapshot over the given frozen columns.
+     *
+     * @param columns The frozen copy of the columns at the time of the snapshot.
+     */
+    TaskSnapshot(ColumnarTaskList columns) {
+        this.tasks = null;
+        this.columns = columns;
+    }
+
+    @Override
+    public Task get(int index) {
+        return columns != null ? columns.get(index) : tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return columns != null ? columns.size() : tasks.size();
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return columns != null ? columns.iterator() : tasks.iterator(0);
+    }
+}
@@ -43,4 +43,16 @@ public class ToDo extends Task {
     public String formatForStorage() {
         return ("T | " + super.formatForStorage());
     }
+
+    /**
+     * Returns a new ToDo task with the same fields and id as this task.
+     *
+     * @return A copy of this ToDo task.
+     */
+    @Override
+    Task copy() {
+        ToDo copy = new ToDo(getName(), isDone());
+        copy.id = id;
+        return copy;
+    }
 }
@@ -0,0 +1,102 @@
+package botanic.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encapsulates the related fields and behavior of an index from the trigrams of task names to the tasks.
+ * The trigrams are taken from the upper-cased name padded with a space on each side,
+ * which is the text that {@link Task#hasKeyword(String)} searches, so every task containing a keyword
+ * of three or more characters is found under each trigram of the upper-cased keyword.
+ * The tasks of each trigram are kept in the order of their ids, which is the order of the list.
+ */
+class TrigramIndex {
+    /** The length of the substrings that tasks are indexed under. */
+    static final int GRAM_LENGTH = 3;
+
+    private Map<Long, ArrayList<Task>> postings = new HashMap<>();
+
+    /**
+     * Returns the distinct trigrams of the given text, each packed into a long.
+     *
+     * @param text The upper-cased text to split.
+     * @return The trigrams of the text.
+     */
+    private static Set<Long> toTrigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the text of the name of the given task that is searched.
+     *
+     * @param task The task to get the text of.
+     * @return The upper-cased name padded with a space on each side.
+     */
+    private static String toSearchedText(Task task) {
+        return " " + task.getName().toUpperCase() + " ";
+    }
+
+    /**
+     * Adds the given task to the index, in the order of its id.
+     *
+     * @param task The task to add.
+     */
+    void add(Task task) {
+        for (Long trigram : toTrigrams(toSearchedText(task))) {
+            KeywordIndex.insertById(postings.computeIfAbsent(trigram, t -> new ArrayList<>()), task);
+        }
+    }
+
+    /**
+     * Removes the given task from the index.
+     *
+     * @param task The task to remove.
+     */
+    void remove(Task task) {
+        for (Long trigram : toTrigrams(toSearchedText(task))) {
+            ArrayList<Task> tasks = postings.get(trigram);
+            if (tasks == null) {
+                continue;
+            }
+            int index = KeywordIndex.indexOf(tasks, task.id);
+            if (index >= 0) {
+                tasks.remove(index);
+            }
+            if (tasks.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks with names that contain the given keyword, which must have at least three characters.
+     * Only the tasks indexed under the rarest trigram of the keyword are checked,
+     * so the time taken grows with the number of those tasks rather than the size of the list.
+     *
+     * @param keyword The keyword to search for.
+     * @return The matching tasks, in the order of the list.
+     */
+    List<Task> findFlexibly(String keyword) {
+        String upperKeyword = keyword.toUpperCase();
+        assert upperKeyword.length() >= GRAM_LENGTH : "Keyword is too short to be looked up by trigram.";
+        List<Task> candidates = null;
+        for (Long trigram : toTrigrams(upperKeyword)) {
+            List<Task> tasks = postings.get(trigram);
+            if (tasks == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || tasks.size() < candidates.size()) {
+                candidates = tasks;
+            }
+        }
+        return ParallelTaskFilter.filter(candidates, task -> task.hasKeyword(keyword));
+    }
+}
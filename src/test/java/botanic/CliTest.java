@@ -0,0 +1,79 @@
+package botanic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.gui.Gui;
+
+/**
+ * Tests the behavior of Cli class.
+ */
+public class CliTest {
+    /**
+     * Tests that each command gets its response in order, that the commands after bye are not run,
+     * and that the tasks added are stored.
+     */
+    @Test
+    public void run_commandsThenBye_responsesInOrderUntilBye() throws IOException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Botanic botanic = new Botanic(dirPath, "BotanicList.txt");
+        StringWriter out = new StringWriter();
+        Cli.run(botanic, new BufferedReader(new StringReader("todo water plants\n\nlist\nbye\ntodo buy soil\n")), out);
+
+        String[] responses = out.toString().split("\n\n");
+        assertEquals(4, responses.length);
+        assertTrue(responses[1].startsWith("Pear-fect! I've added this task:\n [T][ ] water plants"));
+        assertEquals("Here are the tasks in your basket:\n1. [T][ ] water plants", responses[2]);
+        assertTrue(responses[3].startsWith("Bye"));
+        assertEquals("Here are the tasks in your basket:\n1. [T][ ] water plants\n",
+                new Botanic(dirPath, "BotanicList.txt").getResponse("list"));
+    }
+
+    /**
+     * Tests that a batch is answered with one summary listing its failed lines, and that its changes are kept.
+     */
+    @Test
+    public void runBatches_mixedCommands_summarized() throws IOException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Botanic botanic = new Botanic(dirPath, "BotanicList.txt");
+        StringWriter out = new StringWriter();
+        Cli.runBatches(botanic, new BufferedReader(new StringReader(
+                "todo water plants\nwater\n\ntodo buy soil\nmark 9\nmark 2\n")), out);
+
+        String[] responses = out.toString().split("\n\n");
+        assertEquals(2, responses.length);
+        assertEquals("Phew! I've run 5 command(s): 3 done, 2 failed.\n"
+                + "Line 2: I'm sorry, there is no such command.\n"
+                + "Line 5: Item at given index does not exist! Please enter a valid index.\n"
+                + "Now you have 2 task(s) in your basket.", responses[1]);
+        assertEquals("Here are the tasks in your basket:\n1. [T][ ] water plants\n2. [T][X] buy soil\n",
+                new Botanic(dirPath, "BotanicList.txt").getResponse("list"));
+    }
+
+    /**
+     * Tests that a bye command ends the batch it is in, so the commands after it are neither run nor stored.
+     */
+    @Test
+    public void runBatches_byeInBatch_laterCommandsNotRun() throws IOException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Botanic botanic = new Botanic(dirPath, "BotanicList.txt");
+        StringWriter out = new StringWriter();
+        Cli.runBatches(botanic, new BufferedReader(new StringReader(
+                "todo water plants\nbye\ntodo buy soil\n")), out);
+
+        String[] responses = out.toString().split("\n\n");
+        assertEquals(2, responses.length);
+        assertEquals("Phew! I've run 1 command(s): 1 done, 0 failed.\n"
+                + "Now you have 1 task(s) in your basket.\n" + new Gui().getBye(), responses[1]);
+        assertEquals("Here are the tasks in your basket:\n1. [T][ ] water plants\n",
+                new Botanic(dirPath, "BotanicList.txt").getResponse("list"));
+    }
+}
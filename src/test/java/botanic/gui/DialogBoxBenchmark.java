@@ -0,0 +1,94 @@
+package botanic.gui;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+
+/**
+ * Compares the time taken to make a dialog box by loading it from FXML, as DialogBox used to,
+ * with the time taken by DialogBox now that it is built in code with shared styles.
+ * This is not run as part of the tests. Run it after building with
+ * {@code java -cp build/classes/java/main:build/classes/java/test:build/resources/main:<javafx jars>
+ * botanic.gui.DialogBoxBenchmark}, optionally followed by the number of dialog boxes to make (2000 by default).
+ */
+public class DialogBoxBenchmark {
+    private static final int DEFAULT_BOX_COUNT = 2000;
+    private static final int RUNS = 5;
+    /** The FXML that every DialogBox used to be loaded from. */
+    private static final String DIALOG_BOX_FXML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.geometry.Insets?>\n"
+            + "<?import javafx.scene.control.Label?>\n"
+            + "<?import javafx.scene.image.ImageView?>\n"
+            + "<?import javafx.scene.layout.HBox?>\n"
+            + "<?import javafx.scene.text.Font?>\n"
+            + "<fx:root alignment=\"CENTER_RIGHT\" maxHeight=\"1.7976931348623157E308\""
+            + " maxWidth=\"1.7976931348623157E308\" prefWidth=\"400.0\" type=\"javafx.scene.layout.HBox\""
+            + " xmlns=\"http://javafx.com/javafx/8.0.171\" xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "    <children>\n"
+            + "        <Label fx:id=\"dialog\" text=\"Label\" wrapText=\"true\">\n"
+            + "            <font><Font name=\"Comic Sans MS\" size=\"13.0\" /></font>\n"
+            + "        </Label>\n"
+            + "        <ImageView fx:id=\"displayPicture\" fitHeight=\"88.0\" fitWidth=\"88.0\""
+            + " pickOnBounds=\"true\" preserveRatio=\"true\" />\n"
+            + "    </children>\n"
+            + "    <padding><Insets bottom=\"15.0\" left=\"5.0\" right=\"5.0\" top=\"15.0\" /></padding>\n"
+            + "</fx:root>\n";
+
+    /**
+     * Encapsulates the fields that the FXML of a dialog box is loaded into.
+     */
+    public static class LoadedDialogBox {
+        @FXML
+        private Label dialog;
+        @FXML
+        private ImageView displayPicture;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The number of dialog boxes to make in each run.
+     */
+    public static void main(String... args) throws IOException, InterruptedException {
+        int boxCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BOX_COUNT;
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        Image image = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/UserIcon.png"));
+        byte[] fxml = DIALOG_BOX_FXML.getBytes(StandardCharsets.UTF_8);
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < boxCount; i++) {
+                LoadedDialogBox controller = new LoadedDialogBox();
+                FXMLLoader fxmlLoader = new FXMLLoader();
+                fxmlLoader.setController(controller);
+                fxmlLoader.setRoot(new HBox());
+                fxmlLoader.load(new ByteArrayInputStream(fxml));
+                controller.dialog.setText("message " + i);
+                controller.displayPicture.setImage(image);
+            }
+            long fxmlNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < boxCount; i++) {
+                DialogBox.getBotanicDialog("message " + i, image);
+            }
+            long codeNanos = System.nanoTime() - start;
+
+            System.out.printf("run %d  %,d boxes  FXML %,8.1f us/box  in code %,8.1f us/box  %.1fx faster%n",
+                    run + 1, boxCount, fxmlNanos / 1e3 / boxCount, codeNanos / 1e3 / boxCount,
+                    (double) fxmlNanos / codeNanos);
+        }
+        Platform.exit();
+    }
+}
@@ -0,0 +1,49 @@
+package botanic.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of TranscriptArchive class.
+ */
+public class TranscriptArchiveTest {
+    /**
+     * Tests that the window keeps its messages up to the limit and then lets go of the oldest quarter at once.
+     */
+    @Test
+    public void getSpillCount_overLimit_oldestQuarterSpilled() {
+        TranscriptArchive archive = new TranscriptArchive("unused", "unused.txt", 8);
+        assertEquals(0, archive.getSpillCount(8));
+        assertEquals(3, archive.getSpillCount(9));
+        assertEquals(4, archive.getSpillCount(10));
+        archive.close();
+    }
+
+    /**
+     * Tests that messages moved out of the window are appended to the transcript file in order.
+     */
+    @Test
+    public void spill_twoBatches_appendedInOrder() throws IOException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        TranscriptArchive archive = new TranscriptArchive(dirPath, "transcript.txt", 4);
+        List<TranscriptEntry> entries = new ArrayList<>();
+        entries.add(new TranscriptEntry("list", true));
+        entries.add(new TranscriptEntry("Here are the tasks in your basket:\n1. [T][ ] water plants\n", false));
+        archive.spill(entries);
+        entries.clear();
+        archive.spill(List.of(new TranscriptEntry("bye", true)));
+        archive.close();
+
+        String transcript = Files.readString(new File(dirPath, "transcript.txt").toPath(), StandardCharsets.UTF_8);
+        assertEquals("You: list\n\nBOTanic: Here are the tasks in your basket:\n1. [T][ ] water plants\n\n\n"
+                + "You: bye\n\n", transcript);
+    }
+}
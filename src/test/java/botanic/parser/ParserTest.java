@@ -0,0 +1,113 @@
+package botanic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.exception.BotanicException;
+import botanic.exception.IncompleteDescException;
+import botanic.exception.InvalidInputException;
+import botanic.gui.Gui;
+import botanic.task.TaskList;
+import botanic.task.ToDo;
+
+/**
+ * Tests the behavior of Parser class.
+ */
+public class ParserTest {
+    private final Parser parser = new Parser();
+    private final Gui gui = new Gui();
+
+    /**
+     * Returns a list of the given number of to-dos, named by their numbers in the list.
+     */
+    private static TaskList makeTasks(int count) {
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= count; i++) {
+            tasks.addQuietly(new ToDo("water plant " + i, i % 2 == 0));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the response of the command parsed from the given input, run on the given tasks.
+     */
+    private String run(String input, TaskList tasks) throws BotanicException {
+        return parser.parseCommand(input).execute(tasks, null, gui);
+    }
+
+    /**
+     * Tests that a page number after list picks that page of the default size.
+     */
+    @Test
+    public void parseCommand_listWithPageNumber_pageListed() throws BotanicException {
+        String response = run("list 3", makeTasks(250));
+        assertTrue(response.startsWith("Here are the tasks in your basket:\n201. [T][ ] water plant 201\n"));
+        assertTrue(response.endsWith("Page 3 of 3, showing items 201 to 250 of 250.\n"));
+    }
+
+    /**
+     * Tests that the page options after list pick the page and its size, in either order.
+     */
+    @Test
+    public void parseCommand_listWithPageOptions_pageListed() throws BotanicException {
+        TaskList tasks = makeTasks(250);
+        String expected = "Here are the tasks in your basket:\n"
+                + "51. [T][ ] water plant 51\n52. [T][X] water plant 52\n"
+                + "Page 26 of 125, showing items 51 to 52 of 250.\n"
+                + "Add \"--page 27\" to your command to see the next page.\n";
+        assertEquals(expected, run("list --page 26 --page-size 2", tasks));
+        assertEquals(expected, run("list --page-size 2 --page 26", tasks));
+        assertEquals(expected, run("list 26 --page-size 2", tasks));
+        assertTrue(run("list --page-size 50", tasks).endsWith("Page 1 of 5, showing items 1 to 50 of 250.\n"
+                + "Add \"--page 2\" to your command to see the next page.\n"));
+    }
+
+    /**
+     * Tests that the page options after list done and list pending page through the tasks with that status.
+     */
+    @Test
+    public void parseCommand_listStatusWithPage_pageListed() throws BotanicException {
+        TaskList tasks = makeTasks(10);
+        assertEquals("Here are the done tasks in your basket:\n6. [T][X] water plant 6\n"
+                + "Page 3 of 5, showing items 3 to 3 of 5.\n"
+                + "Add \"--page 4\" to your command to see the next page.\n",
+                run("list done --page 3 --page-size 1", tasks));
+        assertEquals("Here are the pending tasks in your basket:\n9. [T][ ] water plant 9\n"
+                + "Page 5 of 5, showing items 5 to 5 of 5.\n", run("list pending 5 --page-size 1", tasks));
+    }
+
+    /**
+     * Tests that the page options after the keyword of a find command are not taken as part of the keyword.
+     */
+    @Test
+    public void parseCommand_findWithPageOptions_keywordKept() throws BotanicException {
+        TaskList tasks = makeTasks(20);
+        assertEquals("Here are the matching tasks in your basket:\n"
+                + "11. [T][ ] water plant 19\n"
+                + "Page 2 of 2, showing items 11 to 11 of 11.\n",
+                run("findflex plant 1 --page 2 --page-size 10", tasks));
+    }
+
+    /**
+     * Tests that a page option without its value, a page number or size out of range
+     * and a word that is not about the page are refused.
+     */
+    @Test
+    public void parseCommand_badPage_exceptionThrown() {
+        assertThrows(IncompleteDescException.class, () -> parser.parseCommand("list --page"));
+        assertThrows(IncompleteDescException.class, () -> parser.parseCommand("list done --page-size"));
+        InvalidInputException e = assertThrows(InvalidInputException.class, () -> parser.parseCommand("list 0"));
+        assertEquals(gui.getInvalidPageErrorMsg(), e.getReason());
+        e = assertThrows(InvalidInputException.class, () -> parser.parseCommand("list --page -3"));
+        assertEquals(gui.getInvalidPageErrorMsg(), e.getReason());
+        e = assertThrows(InvalidInputException.class, () -> parser.parseCommand("list --page-size 1001"));
+        assertEquals(gui.getInvalidPageErrorMsg(), e.getReason());
+        e = assertThrows(InvalidInputException.class, () -> parser.parseCommand("findflex plant --page two"));
+        assertEquals(gui.getInvalidPageErrorMsg(), e.getReason());
+        e = assertThrows(InvalidInputException.class, () -> parser.parseCommand("list everything"));
+        assertEquals(gui.getInvalidCommandErrorMsg(), e.getReason());
+    }
+}
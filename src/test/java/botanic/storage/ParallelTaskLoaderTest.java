@@ -0,0 +1,99 @@
+package botanic.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.task.Task;
+
+/**
+ * Tests the behavior of ParallelTaskLoader class.
+ */
+public class ParallelTaskLoaderTest {
+    /**
+     * Returns the given number of storage records of every type and of many lengths,
+     * some with names outside ASCII and some with " | " in their names.
+     */
+    private static List<String> makeRecords(int count) {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = "plant " + "x".repeat(i % 37) + (i % 5 == 0 ? " \u690d\u7269" : "") + " " + i;
+            switch (i % 3) {
+            case 0:
+                records.add("T | " + (i % 2) + " | " + name);
+                break;
+            case 1:
+                records.add("D | " + (i % 2) + " | pay | " + name + " | 2024/11/" + (10 + i % 20));
+                break;
+            default:
+                records.add("E | " + (i % 2) + " | " + name + " | 2024/11/11 | 2024/12/" + (10 + i % 20));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the storage records of the given tasks.
+     */
+    private static List<String> formatAll(List<Task> tasks) {
+        List<String> records = new ArrayList<>();
+        tasks.forEach(task -> records.add(task.formatForStorage()));
+        return records;
+    }
+
+    /**
+     * Tests that a file read in small windows split into small chunks gives every task once and in order,
+     * although windows and chunks end partway through lines, and that damaged records are skipped.
+     */
+    @Test
+    public void read_smallChunksAndWindows_sameTasksInOrder() throws IOException {
+        List<String> records = makeRecords(500);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            String sealed = RecordChecksum.seal(records.get(i));
+            lines.add(i % 100 == 50 ? sealed.replace("plant", "plan") : sealed);
+        }
+        Path file = Files.createTempDirectory("botanic").resolve("tasks.txt");
+        //no line break after the last line, so the last window ends partway through a line too
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        List<String> expected = new ArrayList<>(records);
+        for (int i = 450; i >= 0; i -= 100) {
+            expected.remove(i);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, formatAll(ParallelTaskLoader.read(file, pool, 64, 1 << 12)));
+            assertEquals(expected, formatAll(ParallelTaskLoader.read(file, pool, 1, 256)));
+            assertEquals(expected, formatAll(ParallelTaskLoader.read(file, pool)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a line that does not fit in a window is refused instead of being split.
+     */
+    @Test
+    public void read_lineLongerThanWindow_exceptionThrown() throws IOException {
+        Path file = Files.createTempDirectory("botanic").resolve("tasks.txt");
+        Files.write(file, List.of(RecordChecksum.seal("T | 0 | " + "a".repeat(300)),
+                RecordChecksum.seal("T | 0 | weed")), StandardCharsets.UTF_8);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThrows(IOException.class, () -> ParallelTaskLoader.read(file, pool, 64, 256));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
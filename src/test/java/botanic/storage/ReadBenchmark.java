@@ -0,0 +1,84 @@
+package botanic.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import botanic.exception.BotanicException;
+import botanic.task.NameInterner;
+import botanic.task.Task;
+
+/**
+ * Compares the time taken by each read mode of Storage on storage files of different sizes.
+ * This is not run as part of the tests. Run it after building with
+ * {@code java -Xmx8g -cp build/classes/java/main:build/classes/java/test botanic.storage.ReadBenchmark}
+ * optionally followed by the numbers of tasks to benchmark (10k, 1M and 10M by default).
+ */
+public class ReadBenchmark {
+    private static final int[] DEFAULT_TASK_COUNTS = { 10_000, 1_000_000, 10_000_000 };
+    private static final int RUNS = 3;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The numbers of tasks in the storage files to benchmark.
+     */
+    public static void main(String... args) throws IOException, BotanicException {
+        int[] taskCounts = DEFAULT_TASK_COUNTS;
+        if (args.length > 0) {
+            taskCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                taskCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+        Path dir = Files.createTempDirectory("botanic-benchmark");
+        for (int taskCount : taskCounts) {
+            String fileName = taskCount + ".txt";
+            writeStorageFile(dir.resolve(fileName), taskCount);
+            Storage storage = new Storage(dir.toString(), fileName);
+            for (Storage.ReadMode mode : Storage.ReadMode.values()) {
+                long bestNanos = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    ArrayList<Task> tasks = storage.read(mode);
+                    bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                    assert tasks.size() == taskCount : "Benchmark read the wrong number of tasks.";
+                }
+                System.out.printf("%,12d tasks  %-8s %,10.1f ms  %,14.0f tasks/s%n", taskCount, mode,
+                        bestNanos / 1e6, taskCount / (bestNanos / 1e9));
+            }
+            System.out.printf("%,12d tasks  names pooled %,d, about %,d bytes saved so far%n", taskCount,
+                    NameInterner.getShared().size(), NameInterner.getShared().getBytesSaved());
+            Files.delete(dir.resolve(fileName));
+        }
+    }
+
+    /**
+     * Writes a text storage file holding the given number of ToDo, Deadline and Event tasks.
+     *
+     * @param path The path of the file to write.
+     * @param taskCount The number of tasks to write.
+     * @throws IOException If the file cannot be written.
+     */
+    private static void writeStorageFile(Path path, int taskCount) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < taskCount; i++) {
+                int done = i % 2;
+                switch (i % 3) {
+                case 0:
+                    writer.write("T | " + done + " | water plant " + i + "\n");
+                    break;
+                case 1:
+                    writer.write("D | " + done + " | repot cactus " + i + " | 2024/11/11\n");
+                    break;
+                default:
+                    writer.write("E | " + done + " | flower show " + i + " | 2024/11/11 | 2024/11/25\n");
+                    break;
+                }
+            }
+        }
+    }
+}
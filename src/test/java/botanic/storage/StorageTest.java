@@ -0,0 +1,357 @@
+package botanic.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.exception.BotanicException;
+import botanic.task.Deadline;
+import botanic.task.Task;
+import botanic.task.ToDo;
+
+/**
+ * Tests the behavior of Storage class.
+ */
+public class StorageTest {
+    /**
+     * Tests that changes recorded in the journal are replayed on top of the snapshot.
+     */
+    @Test
+    public void read_snapshotAndJournal_changesReplayed() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt");
+        storage.writeToFile(new ToDo("water plants"), new ToDo("buy soil"));
+
+        storage.journalAdd(new Deadline("repot cactus", LocalDate.of(2024, 11, 11)));
+        storage.journalMark(2);
+        storage.journalDelete(0);
+        storage.flush();
+
+        ArrayList<Task> tasks = new Storage(dirPath, "tasks.txt").read();
+        assertEquals(2, tasks.size());
+        assertEquals("T | 0 | buy soil", tasks.get(0).formatForStorage());
+        assertEquals("D | 1 | repot cactus | 2024/11/11", tasks.get(1).formatForStorage());
+    }
+
+    /**
+     * Tests that writing a snapshot clears the journal, so changes are not replayed twice.
+     */
+    @Test
+    public void writeToFile_afterJournal_journalCleared() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt");
+        storage.journalAdd(new ToDo("water plants"));
+        storage.writeToFile(storage.read().toArray(new Task[0]));
+
+        assertEquals(1, storage.read().size());
+    }
+
+    /**
+     * Tests that a small batch is appended to the journal after the changes queued before it.
+     */
+    @Test
+    public void commitBatch_smallBatch_appendedToJournalInOrder() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt");
+        storage.writeToFile(new ToDo("water plants"));
+        storage.journalAdd(new ToDo("buy soil"));
+
+        storage.beginBatch();
+        storage.journalMark(1);
+        storage.journalDelete(0);
+        storage.commitBatch(List::of);
+
+        ArrayList<Task> tasks = new Storage(dirPath, "tasks.txt").read();
+        assertEquals(1, tasks.size());
+        assertEquals("T | 1 | buy soil", tasks.get(0).formatForStorage());
+    }
+
+    /**
+     * Tests that a batch big enough to fill the journal is committed as a snapshot of the given tasks.
+     */
+    @Test
+    public void commitBatch_largeBatch_writtenAsSnapshot() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt", Storage.Format.TEXT, 64, Double.MAX_VALUE);
+        List<Task> tasks = new ArrayList<>();
+        storage.beginBatch();
+        for (int i = 0; i < 10; i++) {
+            Task task = new ToDo("water plant " + i);
+            tasks.add(task);
+            storage.journalAdd(task);
+        }
+        storage.commitBatch(() -> tasks);
+
+        assertFalse(new File(dirPath, "tasks.txt.journal").exists());
+        assertEquals(10, new Storage(dirPath, "tasks.txt").read().size());
+    }
+
+    /**
+     * Tests that compaction folds the journal into the snapshot without changing the tasks read.
+     */
+    @Test
+    public void compact_withJournal_journalFoldedIntoSnapshot() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt", Storage.Format.TEXT,
+                Long.MAX_VALUE, Double.MAX_VALUE);
+        storage.writeToFile(new ToDo("water plants"));
+        storage.journalAdd(new ToDo("buy soil"));
+        storage.journalMark(0);
+
+        storage.compact();
+
+        assertFalse(new File(dirPath, "tasks.txt.journal").exists());
+        ArrayList<Task> tasks = storage.read();
+        assertEquals(2, tasks.size());
+        assertEquals("T | 1 | water plants", tasks.get(0).formatForStorage());
+        assertEquals("T | 0 | buy soil", tasks.get(1).formatForStorage());
+    }
+
+    /**
+     * Tests that the size trigger and the ratio trigger of the compactor are respected.
+     */
+    @Test
+    public void shouldCompact_triggers() {
+        Compactor compactor = new Compactor(100 * 1024, 0.5);
+        assertTrue(compactor.shouldCompact(100 * 1024, Long.MAX_VALUE));
+        assertTrue(compactor.shouldCompact(8 * 1024, 10 * 1024));
+        assertFalse(compactor.shouldCompact(8 * 1024, 20 * 1024));
+        assertFalse(compactor.shouldCompact(100, 0));
+    }
+
+    /**
+     * Tests that every read mode gives the same tasks as reading through a Scanner,
+     * including for names containing " | " and lines ending with a carriage return.
+     */
+    @Test
+    public void read_allModes_sameTasks() throws IOException, BotanicException {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt"), Arrays.asList(
+                "T | 1 | water plants",
+                "D | 0 | pay | rent | 2024/11/11\r",
+                "E | 1 | flower show | 2024/11/11 | 2024/11/25"), StandardCharsets.UTF_8);
+        Storage storage = new Storage(dir.toString(), "tasks.txt");
+
+        ArrayList<Task> scanned = storage.read(Storage.ReadMode.SCANNER);
+        for (Storage.ReadMode mode : Storage.ReadMode.values()) {
+            ArrayList<Task> tasks = storage.read(mode);
+            assertEquals(scanned.size(), tasks.size());
+            for (int i = 0; i < scanned.size(); i++) {
+                assertEquals(scanned.get(i).toString(), tasks.get(i).toString());
+            }
+            assertEquals("[D][ ] pay | rent (by: 11 NOVEMBER 2024)", tasks.get(1).toString());
+        }
+    }
+
+    /**
+     * Tests that reading lazily gives the same tasks as reading in full, with the journal replayed.
+     */
+    @Test
+    public void readLazily_snapshotAndJournal_sameTasksAsRead() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt");
+        storage.writeToFile(new ToDo("water plants"), new ToDo("buy soil"), new ToDo("weed"));
+        storage.journalDelete(0);
+        storage.journalAdd(new ToDo("prune roses"));
+        storage.journalMark(1);
+
+        List<Task> lazy = storage.readLazily();
+        ArrayList<Task> eager = storage.read();
+
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            assertEquals(eager.get(i).formatForStorage(), lazy.get(i).formatForStorage());
+        }
+    }
+
+    /**
+     * Tests that several threads reading a lazily read list at once each get the same tasks as reading in full,
+     * and that the list keeps its tasks after the storage file is replaced.
+     */
+    @Test
+    public void readLazily_concurrentGets_sameTasksAsRead() throws Exception {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt");
+        Task[] written = new Task[5000];
+        for (int i = 0; i < written.length; i++) {
+            written[i] = i % 2 == 0 ? new ToDo("water plant " + i) : new Deadline("pay bill " + i,
+                    LocalDate.of(2024, 1, 1).plusDays(i));
+        }
+        storage.writeToFile(written);
+        List<Task> lazy = storage.readLazily();
+        ArrayList<Task> eager = storage.read();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(pool.submit(() -> {
+                    List<String> records = new ArrayList<>();
+                    for (Task task : lazy) {
+                        records.add(task.formatForStorage());
+                    }
+                    return records;
+                }));
+            }
+            for (Future<List<String>> result : results) {
+                List<String> records = result.get();
+                assertEquals(eager.size(), records.size());
+                for (int i = 0; i < eager.size(); i++) {
+                    assertEquals(eager.get(i).formatForStorage(), records.get(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        storage.writeToFile(new ToDo("weed"));
+        assertEquals(written.length, lazy.size());
+        assertEquals(written[1].formatForStorage(), lazy.get(1).formatForStorage());
+    }
+
+    /**
+     * Tests that queued changes are written to the journal in the background within the flush delay.
+     */
+    @Test
+    public void persister_changesQueued_flushedWithinDelay() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("botanic");
+        Storage storage = new Storage(dir.toString(), "tasks.txt");
+        WriteBehindPersister persister = storage.getPersister();
+        persister.setMaxFlushDelayMillis(50);
+
+        storage.journalAdd(new ToDo("water plants"));
+        storage.journalMark(0);
+        assertEquals(2, persister.getQueueDepth());
+
+        //wait for the background flush, but give up well after the delay instead of hanging
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (persister.getLastFlushNanos() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(persister.getLastFlushNanos() > 0, "Queued changes were not flushed in the background.");
+        assertEquals(0, persister.getQueueDepth());
+        assertEquals(Arrays.asList(RecordChecksum.seal("A | T | 0 | water plants"), RecordChecksum.seal("M | 0")),
+                Files.readAllLines(dir.resolve("tasks.txt.journal")));
+    }
+
+    /**
+     * Tests that damaged records in the storage file are skipped in every read mode,
+     * and that replaying the journal stops at a record cut short by a crash.
+     */
+    @Test
+    public void read_damagedRecords_skipped() throws IOException, BotanicException {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt"), Arrays.asList(
+                RecordChecksum.seal("T | 0 | water plants"),
+                RecordChecksum.seal("T | 0 | buy soil").replace("buy", "bug"),
+                "T | 1 | weed",
+                RecordChecksum.seal("D | 0 | pay rent | 2024/11/11").substring(0, 20)), StandardCharsets.UTF_8);
+        Files.write(dir.resolve("tasks.txt.journal"), Arrays.asList(
+                RecordChecksum.seal("M | 0"),
+                RecordChecksum.seal("X | 1").substring(0, 12),
+                RecordChecksum.seal("X | 0")), StandardCharsets.UTF_8);
+        Storage storage = new Storage(dir.toString(), "tasks.txt");
+
+        for (Storage.ReadMode mode : Storage.ReadMode.values()) {
+            ArrayList<Task> tasks = storage.read(mode);
+            assertEquals(2, tasks.size());
+            assertEquals("T | 1 | water plants", tasks.get(0).formatForStorage());
+            assertEquals("T | 1 | weed", tasks.get(1).formatForStorage());
+        }
+        assertEquals(2, storage.readLazily().size());
+    }
+
+    /**
+     * Tests that a batch is measured in the bytes it takes in the journal, not in chars,
+     * so a batch of names outside ASCII that fills the journal is committed as a snapshot.
+     */
+    @Test
+    public void commitBatch_nonAsciiBatch_measuredInBytes() throws IOException, BotanicException {
+        String dirPath = Files.createTempDirectory("botanic").toString();
+        Storage storage = new Storage(dirPath, "tasks.txt", Storage.Format.TEXT, 64, Double.MAX_VALUE);
+        Task task = new ToDo("\u6c34".repeat(20));
+        storage.beginBatch();
+        storage.journalAdd(task);
+        storage.commitBatch(() -> List.of(task));
+
+        assertFalse(new File(dirPath, "tasks.txt.journal").exists());
+        assertEquals(task.formatForStorage(), new Storage(dirPath, "tasks.txt").read().get(0).formatForStorage());
+    }
+
+    /**
+     * Tests that a journal record torn by a crash is cut off when the journal is read,
+     * so that the changes made after the crash are not appended onto it and lost.
+     */
+    @Test
+    public void read_tornJournalEnd_laterChangesKept() throws IOException, BotanicException {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt"), Arrays.asList(
+                RecordChecksum.seal("T | 0 | water plants")), StandardCharsets.UTF_8);
+        Files.write(dir.resolve("tasks.txt.journal"), (RecordChecksum.seal("A | T | 0 | buy soil") + "\n"
+                + RecordChecksum.seal("M | 0").substring(0, 8)).getBytes(StandardCharsets.UTF_8));
+        Storage storage = new Storage(dir.toString(), "tasks.txt");
+        assertEquals(2, storage.read().size());
+
+        storage.journalMark(1);
+        storage.flush();
+
+        ArrayList<Task> tasks = new Storage(dir.toString(), "tasks.txt").read();
+        assertEquals(2, tasks.size());
+        assertEquals("T | 0 | water plants", tasks.get(0).formatForStorage());
+        assertEquals("T | 1 | buy soil", tasks.get(1).formatForStorage());
+    }
+
+    /**
+     * Tests that a journal whose last record lost its line break keeps that record
+     * and the records appended after it.
+     */
+    @Test
+    public void read_journalWithoutLastLineBreak_laterChangesKept() throws IOException, BotanicException {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt.journal"),
+                RecordChecksum.seal("A | T | 0 | buy soil").getBytes(StandardCharsets.UTF_8));
+        Storage storage = new Storage(dir.toString(), "tasks.txt");
+        assertEquals(1, storage.read().size());
+
+        storage.journalMark(0);
+        storage.flush();
+
+        ArrayList<Task> tasks = new Storage(dir.toString(), "tasks.txt").read();
+        assertEquals(1, tasks.size());
+        assertEquals("T | 1 | buy soil", tasks.get(0).formatForStorage());
+    }
+
+    /**
+     * Tests that reading lazily skips a half-written line from before checksums were added when opening the file,
+     * instead of failing when the task is first needed.
+     */
+    @Test
+    public void readLazily_damagedUnsealedLine_skippedAtOpen() throws IOException, BotanicException {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt"), Arrays.asList(
+                "T | 0 | water plants",
+                "D | 0 | pay rent | 2024/1",
+                RecordChecksum.seal("T | 1 | weed")), StandardCharsets.UTF_8);
+
+        List<Task> tasks = new Storage(dir.toString(), "tasks.txt").readLazily();
+        assertEquals(2, tasks.size());
+        assertEquals("T | 0 | water plants", tasks.get(0).formatForStorage());
+        assertEquals("T | 1 | weed", tasks.get(1).formatForStorage());
+    }
+}
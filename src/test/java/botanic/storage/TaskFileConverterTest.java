@@ -0,0 +1,60 @@
+package botanic.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.task.Task;
+
+/**
+ * Tests the behavior of TaskFileConverter class.
+ */
+public class TaskFileConverterTest {
+    private static final List<String> LINES = Arrays.asList(
+            "T | 0 | water plants",
+            "D | 1 | pay | rent | 2024/11/11",
+            "E | 0 | \u690d\u7269 show | 2024/11/11 | 2024/11/25",
+            "T | 1 | " + "a".repeat(100_000));
+
+    /**
+     * Tests that converting a text file to binary and back gives back the same lines,
+     * including names that contain " | ", non-ASCII names and names longer than the read buffer.
+     */
+    @Test
+    public void textToBinaryToText_sameLines() throws IOException {
+        Path dir = Files.createTempDirectory("botanic");
+        Path text = dir.resolve("tasks.txt");
+        Path binary = dir.resolve("tasks.bin");
+        Path textAgain = dir.resolve("tasksAgain.txt");
+        Files.write(text, LINES, StandardCharsets.UTF_8);
+
+        TaskFileConverter.textToBinary(text, binary);
+        TaskFileConverter.binaryToText(binary, textAgain);
+
+        assertEquals(LINES, Files.readAllLines(textAgain, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that a binary storage file written by Storage is read back as the same tasks.
+     */
+    @Test
+    public void binaryStorage_writeThenRead_sameTasks() throws Exception {
+        Path dir = Files.createTempDirectory("botanic");
+        Files.write(dir.resolve("tasks.txt"), LINES.subList(0, 2), StandardCharsets.UTF_8);
+        Storage text = new Storage(dir.toString(), "tasks.txt");
+        Storage binary = new Storage(dir.toString(), "tasks.bin", Storage.Format.BINARY);
+
+        binary.writeToFile(text.read().toArray(new Task[0]));
+        StringBuilder sb = new StringBuilder();
+        binary.read().forEach(t -> sb.append(t.formatForStorage()).append("\n"));
+
+        assertEquals(String.join("\n", LINES.subList(0, 2)) + "\n", sb.toString());
+    }
+}
@@ -0,0 +1,133 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.exception.OutOfBoundsException;
+
+/**
+ * Tests the behavior of ColumnarTaskList class.
+ */
+public class ColumnarTaskListTest {
+    /**
+     * Returns a random task of a random type.
+     */
+    private static Task randomTask(Random random, int number) {
+        LocalDate date = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+        boolean isDone = random.nextBoolean();
+        switch (random.nextInt(3)) {
+        case 0:
+            return new ToDo("todo " + number, isDone);
+        case 1:
+            return new Deadline("deadline " + number, date, isDone);
+        default:
+            return new Event("event " + number, date, date.plusDays(random.nextInt(5)), isDone);
+        }
+    }
+
+    /**
+     * Tests that the tasks made from the columns match an ArrayList changed in the same random ways.
+     */
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(14);
+        List<Task> expected = new ArrayList<>();
+        ColumnarTaskList tasks = new ColumnarTaskList();
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index).formatForStorage(), tasks.remove(index).formatForStorage());
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Task task = randomTask(random, i);
+                expected.set(index, task);
+                tasks.set(index, task);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                Task task = randomTask(random, i);
+                expected.add(index, task);
+                tasks.add(index, task);
+            }
+        }
+        assertEquals(expected.size(), tasks.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).formatForStorage(), tasks.get(i).formatForStorage());
+            assertEquals(expected.get(i).isDone(), tasks.getDoneFlags().get(i));
+        }
+    }
+
+    /**
+     * Tests that marking a task in a TaskList backed by columns is kept, including in search results.
+     */
+    @Test
+    public void taskList_markTask_kept() throws OutOfBoundsException {
+        List<Task> initial = new ArrayList<>();
+        initial.add(new ToDo("water plants"));
+        initial.add(new ToDo("buy soil"));
+        TaskList tasks = new TaskList(new ColumnarTaskList(initial));
+        tasks.findAllMatch("soil");
+        tasks.markIsDone(1);
+        assertTrue(tasks.toString().endsWith("2. [T][X] buy soil\n"));
+        assertTrue(tasks.findAllMatch("soil").endsWith("1. [T][X] buy soil\n"));
+    }
+
+    /**
+     * Tests that searches of a TaskList backed by columns give the same results as one holding the tasks as objects.
+     */
+    @Test
+    public void taskList_searches_sameAsObjects() throws OutOfBoundsException {
+        Random random = new Random(20);
+        List<Task> initial = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            initial.add(randomTask(random, i));
+        }
+        TaskList objects = new TaskList(new ArrayList<>(initial));
+        TaskList columns = new TaskList(new ColumnarTaskList(initial));
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 20);
+        Event event = new Event("event overlap", from, to);
+        assertEquals(objects.add(event), columns.add(event.copy()));
+        objects.delete(7);
+        columns.delete(7);
+        for (int day = 0; day < 365; day += 13) {
+            LocalDate date = LocalDate.of(2024, 1, 1).plusDays(day);
+            assertEquals(objects.findDate(date), columns.findDate(date));
+            assertEquals(objects.findActive(date), columns.findActive(date));
+        }
+        assertEquals(objects.findRange(from, to), columns.findRange(from, to));
+        assertEquals(objects.findAllMatch("todo 42"), columns.findAllMatch("todo 42"));
+        assertEquals(objects.findFlexibly("dline 4"), columns.findFlexibly("dline 4"));
+        assertEquals(objects.printByStatus(true), columns.printByStatus(true));
+        assertEquals(objects.getStats(), columns.getStats());
+    }
+
+    /**
+     * Tests that a snapshot of a TaskList backed by columns keeps the tasks as they were when it was taken.
+     */
+    @Test
+    public void taskList_snapshot_laterChangesNotSeen() throws OutOfBoundsException {
+        List<Task> initial = new ArrayList<>();
+        initial.add(new ToDo("water plants"));
+        initial.add(new Deadline("buy soil", LocalDate.of(2024, 5, 1)));
+        TaskList tasks = new TaskList(new ColumnarTaskList(initial));
+        TaskSnapshot before = tasks.snapshot();
+
+        tasks.markIsDone(0);
+        tasks.add(new ToDo("weed"));
+        tasks.delete(1);
+
+        assertEquals(2, before.size());
+        assertEquals("[T][ ] water plants", before.get(0).toString());
+        assertEquals(initial.get(1).formatForStorage(), before.get(1).formatForStorage());
+        assertEquals(tasks.getTaskList().toString(), tasks.snapshot().toString());
+        assertEquals("[T][X] water plants", tasks.snapshot().get(0).toString());
+    }
+}
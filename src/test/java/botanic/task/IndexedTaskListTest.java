@@ -0,0 +1,67 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.exception.OutOfBoundsException;
+
+/**
+ * Tests the behavior of IndexedTaskList class.
+ */
+public class IndexedTaskListTest {
+    /**
+     * Tests that getting, setting, inserting and removing by position
+     * give the same list as an ArrayList, for a tree built from a list and then changed at random.
+     */
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(13);
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            expected.add(new ToDo("task " + i));
+        }
+        List<Task> tasks = new IndexedTaskList(expected);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), tasks.remove(index));
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Task task = new ToDo("set " + i);
+                assertEquals(expected.set(index, task), tasks.set(index, task));
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                Task task = new ToDo("added " + i);
+                expected.add(index, task);
+                tasks.add(index, task);
+            }
+            assertEquals(expected.size(), tasks.size());
+        }
+        assertEquals(expected, tasks);
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(tasks));
+    }
+
+    /**
+     * Tests that deleting from the front of a long task list keeps the numbering printed by toString().
+     */
+    @Test
+    public void taskList_deleteFromFrontOfLongList_numberingKept() throws OutOfBoundsException {
+        List<Task> initial = new ArrayList<>();
+        for (int i = 0; i < 70000; i++) {
+            initial.add(new ToDo("task " + i));
+        }
+        TaskList tasks = new TaskList(initial);
+        tasks.delete(0);
+        tasks.delete(1);
+        assertTrue(tasks.getTaskList() instanceof IndexedTaskList);
+        assertEquals(69998, tasks.getTaskList().size());
+        assertTrue(tasks.toString().startsWith("1. [T][ ] task 1\n2. [T][ ] task 3\n3. [T][ ] task 4\n"));
+    }
+}
@@ -0,0 +1,29 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of NameInterner class.
+ */
+public class NameInternerTest {
+    /**
+     * Tests that repeated names are shared and counted as saved, and that the pool stops growing when full.
+     */
+    @Test
+    public void intern_repeatedNames_sharedUpToBound() {
+        NameInterner interner = new NameInterner(2);
+        String first = interner.intern(new String("water plants"));
+        assertSame(first, interner.intern(new String("water plants")));
+        assertEquals(40 + 12, interner.getBytesSaved());
+
+        interner.intern("buy soil");
+        String unpooled = new String("weed");
+        assertSame(unpooled, interner.intern(unpooled));
+        assertNotSame(unpooled, interner.intern(new String("weed")));
+        assertEquals(2, interner.size());
+    }
+}
@@ -0,0 +1,53 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of ParallelTaskFilter class.
+ */
+public class ParallelTaskFilterTest {
+    /**
+     * Tests that checking long lists, which are split across threads, gives the matching tasks in list order.
+     */
+    @Test
+    public void filter_longLists_sameOrderAsScan() {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 200000; i++) {
+            Task task = new ToDo(i % 7 == 0 ? "water plants " + i : "buy soil " + i);
+            tasks.add(task);
+            if (i % 7 == 0) {
+                expected.add(task);
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected, ParallelTaskFilter.filter(tasks, task -> task.hasKeyword("wa")));
+            assertEquals(expected, ParallelTaskFilter.filter(new IndexedTaskList(tasks),
+                    task -> task.hasKeyword("wa")));
+        }
+    }
+
+    /**
+     * Tests that a check asked for by an interrupted thread stops with a CancellationException.
+     */
+    @Test
+    public void filter_interruptedCaller_cancelled() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            tasks.add(new ToDo("water plants " + i));
+        }
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> ParallelTaskFilter.filter(tasks, task -> true));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of PersistentTaskVector class.
+ */
+public class PersistentTaskVectorTest {
+    /**
+     * Tests that appending and replacing give the same tasks as an ArrayList,
+     * and that every earlier vector still holds the tasks it held when it was made.
+     */
+    @Test
+    public void randomChanges_sameAsArrayList_earlierVersionsKept() {
+        Random random = new Random(18);
+        List<Task> expected = new ArrayList<>();
+        PersistentTaskVector vector = PersistentTaskVector.empty();
+        List<List<Task>> expectedVersions = new ArrayList<>();
+        List<PersistentTaskVector> versions = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            if (random.nextInt(5) == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Task task = new ToDo("set " + i);
+                expected.set(index, task);
+                vector = vector.set(index, task);
+            } else {
+                Task task = new ToDo("task " + i);
+                expected.add(task);
+                vector = vector.append(task);
+            }
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(vector);
+            }
+        }
+        assertEquals(expected, new TaskSnapshot(vector));
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), new TaskSnapshot(versions.get(i)));
+        }
+    }
+
+    /**
+     * Tests that appending many tasks at once builds a vector several levels deep holding them in order,
+     * and that changing the vector afterwards leaves it as it was.
+     */
+    @Test
+    public void appendAll_deepVector_sameTasksInOrder() {
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            expected.add(new ToDo("task " + i));
+        }
+        PersistentTaskVector vector = PersistentTaskVector.empty().appendAll(expected.subList(0, 1000).iterator())
+                .appendAll(expected.subList(1000, expected.size()).iterator());
+        assertEquals(expected, new TaskSnapshot(vector));
+
+        Task task = new ToDo("changed");
+        List<Task> changed = new ArrayList<>(expected);
+        changed.set(32 * 32 * 32 + 1, task);
+        changed.add(task);
+        assertEquals(changed, new TaskSnapshot(vector.set(32 * 32 * 32 + 1, task).append(task)));
+        assertEquals(expected, new TaskSnapshot(vector));
+    }
+}
@@ -0,0 +1,396 @@
+package botanic.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import botanic.Formatter;
+import botanic.exception.OutOfBoundsException;
+import botanic.gui.Gui;
+
+/**
+ * Tests the behavior of TaskList class.
+ */
+public class TaskListTest {
+    private static final String[] WORDS = {"water", "Water", "plants", "buy", "soil", "", "pot"};
+
+    /**
+     * Returns the result of searching the given tasks one by one, as findAllMatch did before it used an index.
+     */
+    private static String scanAllMatch(List<Task> tasks, String keyword) {
+        List<Task> matches = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.hasKeyword(" " + keyword + " ")) {
+                matches.add(task);
+            }
+        }
+        Gui gui = new Gui();
+        return matches.isEmpty()
+                ? gui.getNoCompleteMatchErrorMsg(keyword)
+                : gui.getFindResult(new TaskList(matches));
+    }
+
+    /**
+     * Returns the result of searching the given tasks one by one, as findFlexibly did before it used an index.
+     */
+    private static String scanFlexibly(List<Task> tasks, String keyword) {
+        List<Task> matches = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.hasKeyword(keyword)) {
+                matches.add(task);
+            }
+        }
+        Gui gui = new Gui();
+        return matches.isEmpty()
+                ? gui.getNoPartialMatchErrorMsg(keyword)
+                : gui.getFindResult(new TaskList(matches));
+    }
+
+    /**
+     * Returns a name or keyword made of one to three random words.
+     */
+    private static String randomWords(Random random) {
+        StringBuilder sb = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = random.nextInt(3); i > 0; i--) {
+            sb.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Tests that findAllMatch() only matches whole words, ignoring case.
+     */
+    @Test
+    public void findAllMatch_wholeWords_matched() {
+        TaskList tasks = new TaskList();
+        tasks.add(new ToDo("water plants"));
+        tasks.add(new ToDo("waterproof pot"));
+        tasks.add(new ToDo("buy WATER"));
+        assertEquals("Here are the matching tasks in your basket:\n"
+                + "1. [T][ ] water plants\n2. [T][ ] buy WATER\n", tasks.findAllMatch("Water"));
+    }
+
+    /**
+     * Tests that findAllMatch() gives the same results as checking every task,
+     * while tasks are added and deleted after the index is built.
+     */
+    @Test
+    public void findAllMatch_randomChanges_sameAsScan() throws OutOfBoundsException {
+        Random random = new Random(9);
+        List<Task> initial = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            initial.add(new ToDo(randomWords(random)));
+        }
+        TaskList tasks = new TaskList(initial);
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean() && !tasks.getTaskList().isEmpty()) {
+                tasks.delete(random.nextInt(tasks.getTaskList().size()));
+            } else {
+                tasks.add(new ToDo(randomWords(random)));
+            }
+            String keyword = randomWords(random);
+            assertEquals(scanAllMatch(tasks.getTaskList(), keyword), tasks.findAllMatch(keyword));
+        }
+    }
+
+    /**
+     * Tests that findFlexibly() matches across the spaces padding the name, as hasKeyword() does.
+     */
+    @Test
+    public void findFlexibly_paddedName_matched() {
+        TaskList tasks = new TaskList();
+        tasks.add(new ToDo("water plants"));
+        tasks.add(new ToDo("buy soil"));
+        assertEquals("Here are the matching tasks in your basket:\n1. [T][ ] buy soil\n",
+                tasks.findFlexibly("soil "));
+        assertEquals("Here are the matching tasks in your basket:\n1. [T][ ] water plants\n",
+                tasks.findFlexibly(" wAT"));
+    }
+
+    /**
+     * Tests that findFlexibly() gives the same results as checking every task,
+     * while tasks are added and deleted after the index is built.
+     */
+    @Test
+    public void findFlexibly_randomChanges_sameAsScan() throws OutOfBoundsException {
+        Random random = new Random(10);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 500; i++) {
+            if (random.nextInt(3) == 0 && !tasks.getTaskList().isEmpty()) {
+                tasks.delete(random.nextInt(tasks.getTaskList().size()));
+            } else {
+                tasks.add(new ToDo(randomWords(random)));
+            }
+            String padded = " " + randomWords(random) + " ";
+            int start = random.nextInt(padded.length());
+            String keyword = padded.substring(start, start + 1 + random.nextInt(padded.length() - start));
+            assertEquals(scanFlexibly(tasks.getTaskList(), keyword), tasks.findFlexibly(keyword));
+        }
+    }
+
+    /**
+     * Tests that findRange() finds tasks with any date in the range once each, in the order of the list,
+     * and that findDate() stops finding a deleted task.
+     */
+    @Test
+    public void findRange_datesInRange_foundOnce() throws OutOfBoundsException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("flower show", LocalDate.of(2024, 11, 11), LocalDate.of(2024, 11, 25)));
+        tasks.add(new ToDo("water plants"));
+        tasks.add(new Deadline("repot cactus", LocalDate.of(2024, 11, 20)));
+        tasks.add(new Deadline("pay rent", LocalDate.of(2024, 12, 1)));
+        assertEquals("Here are the matching tasks in your basket:\n"
+                + "1. [E][ ] flower show (from: 11 NOVEMBER 2024 to: 25 NOVEMBER 2024)\n"
+                + "2. [D][ ] repot cactus (by: 20 NOVEMBER 2024)\n",
+                tasks.findRange(LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 30)));
+
+        tasks.delete(2);
+        assertEquals(new Gui().getNoDateMatchErrorMsg("20 NOVEMBER 2024"),
+                tasks.findDate(LocalDate.of(2024, 11, 20)));
+    }
+
+    /**
+     * Tests that findActive() finds events on every day of their range,
+     * and that adding an overlapping event points out the events it overlaps with.
+     */
+    @Test
+    public void findActive_multiDayEvent_found() {
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("flower show", LocalDate.of(2024, 11, 11), LocalDate.of(2024, 11, 25)));
+        tasks.add(new Event("seed swap", LocalDate.of(2024, 11, 26), LocalDate.of(2024, 11, 26)));
+        assertEquals("Here are the matching tasks in your basket:\n"
+                + "1. [E][ ] flower show (from: 11 NOVEMBER 2024 to: 25 NOVEMBER 2024)\n",
+                tasks.findActive(LocalDate.of(2024, 11, 20)));
+
+        String response = tasks.add(new Event("garden tour", LocalDate.of(2024, 11, 25), LocalDate.of(2024, 12, 1)));
+        assertTrue(response.endsWith("Heads up! It overlaps with these events in your basket:\n"
+                + "1. [E][ ] flower show (from: 11 NOVEMBER 2024 to: 25 NOVEMBER 2024)\n"
+                + "2. [E][ ] seed swap (from: 26 NOVEMBER 2024 to: 26 NOVEMBER 2024)\n"));
+    }
+
+    /**
+     * Tests that findActive() gives the same results as checking every event,
+     * while events are added and deleted after the tree is built.
+     */
+    @Test
+    public void findActive_randomChanges_sameAsScan() throws OutOfBoundsException {
+        Random random = new Random(12);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 1000; i++) {
+            List<Task> list = tasks.getTaskList();
+            if (random.nextInt(3) == 0 && !list.isEmpty()) {
+                tasks.delete(random.nextInt(list.size()));
+            } else {
+                LocalDate start = base.plusDays(random.nextInt(60));
+                tasks.add(new Event("e" + i, start, start.plusDays(random.nextInt(10))));
+            }
+            LocalDate date = base.plusDays(random.nextInt(70));
+            List<Task> matches = new ArrayList<>();
+            for (Task task : list) {
+                Event event = (Event) task;
+                if (!event.getStart().isAfter(date) && !event.getEnd().isBefore(date)) {
+                    matches.add(event);
+                }
+            }
+            String expected = matches.isEmpty()
+                    ? new Gui().getNoActiveMatchErrorMsg(Formatter.formatDateForPrint(date))
+                    : new Gui().getFindResult(new TaskList(matches));
+            assertEquals(expected, tasks.findActive(date));
+        }
+    }
+
+    /**
+     * Tests that the done and pending tasks and their counts follow marking, unmarking, adding and deleting.
+     */
+    @Test
+    public void printByStatus_changesAfterFirstQuery_kept() throws OutOfBoundsException {
+        TaskList tasks = new TaskList();
+        tasks.add(new ToDo("water plants"));
+        tasks.add(new ToDo("buy soil"));
+        tasks.add(new ToDo("weed", true));
+        assertEquals("You have 3 task(s) in your basket.\n1 done, 2 pending.", tasks.getStats());
+
+        tasks.markIsDone(1);
+        tasks.delete(0);
+        tasks.add(new ToDo("prune roses", true));
+        tasks.add(new ToDo("repot cactus"));
+        tasks.unmarkIsDone(1);
+        assertEquals("Here are the done tasks in your basket:\n1. [T][X] buy soil\n3. [T][X] prune roses\n",
+                tasks.printByStatus(true));
+        assertEquals("Here are the pending tasks in your basket:\n2. [T][ ] weed\n4. [T][ ] repot cactus\n",
+                tasks.printByStatus(false));
+        assertEquals("You have 4 task(s) in your basket.\n2 done, 2 pending.", tasks.getStats());
+    }
+
+    /**
+     * Returns the number of tasks found by searching the given list a page at a time of the largest size,
+     * checking that the rows of every page follow on from the rows before and name the task added at their position.
+     */
+    private static int countPagedMatches(TaskList tasks, String keyword) {
+        int count = 0;
+        int pageNumber = 1;
+        String result;
+        do {
+            result = tasks.findFlexibly(keyword, new Page(pageNumber++, Page.MAX_SIZE));
+            for (String row : result.split("\n")) {
+                if (!row.isEmpty() && Character.isDigit(row.charAt(0))) {
+                    assertEquals((count + 1) + ". [T][ ] water plants " + count, row);
+                    count++;
+                }
+            }
+        } while (result.contains("to see the next page"));
+        return count;
+    }
+
+    /**
+     * Tests that searches running alongside changes from another thread each see the list between two changes.
+     */
+    @Test
+    public void findFlexibly_concurrentAdds_consistent() throws Exception {
+        TaskList tasks = new TaskList();
+        int taskCount = 2000;
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(pool.submit(() -> {
+                    int lastCount = 0;
+                    while (lastCount < taskCount) {
+                        int count = countPagedMatches(tasks, "water");
+                        assertTrue(count >= lastCount, "Search went back to an earlier list.");
+                        lastCount = count;
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < taskCount; i++) {
+                tasks.add(new ToDo("water plants " + i));
+            }
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals("You have 2000 task(s) in your basket.\n0 done, 2000 pending.", tasks.getStats());
+    }
+
+    /**
+     * Tests that a snapshot keeps the tasks as they were when it was taken while the list keeps changing.
+     */
+    @Test
+    public void snapshot_laterChanges_notSeen() throws OutOfBoundsException {
+        TaskList tasks = new TaskList();
+        tasks.add(new ToDo("water plants"));
+        tasks.add(new ToDo("buy soil"));
+        TaskSnapshot before = tasks.snapshot();
+
+        tasks.markIsDone(0);
+        tasks.add(new ToDo("weed"));
+        tasks.delete(1);
+        TaskSnapshot after = tasks.snapshot();
+
+        assertEquals(2, before.size());
+        assertEquals("[T][ ] water plants", before.get(0).toString());
+        assertEquals("[T][ ] buy soil", before.get(1).toString());
+        assertEquals(tasks.getTaskList(), after);
+        assertEquals("[T][X] water plants", after.get(0).toString());
+        assertEquals("Here are the matching tasks in your basket:\n1. [T][X] water plants\n",
+                tasks.findFlexibly("water"));
+    }
+
+    /**
+     * Tests that a task is copied only on its first change after a snapshot, and that deleting a task
+     * after a snapshot leaves the snapshot as it was.
+     */
+    @Test
+    public void snapshot_thenChanges_copiedOnceAndSnapshotKept() throws OutOfBoundsException {
+        TaskList tasks = new TaskList();
+        Task unshared = new ToDo("water plants");
+        tasks.add(unshared);
+        tasks.add(new ToDo("buy soil"));
+        tasks.add(new ToDo("weed"));
+        tasks.markIsDone(0);
+        assertSame(unshared, tasks.getTaskList().get(0));
+
+        TaskSnapshot snapshot = tasks.snapshot();
+        tasks.unmarkIsDone(0);
+        Task copy = tasks.getTaskList().get(0);
+        assertNotSame(unshared, copy);
+        tasks.markIsDone(0);
+        assertSame(copy, tasks.getTaskList().get(0));
+        tasks.delete(1);
+
+        assertEquals("[T][X] water plants", snapshot.get(0).toString());
+        assertEquals(3, snapshot.size());
+        assertEquals(tasks.getTaskList(), tasks.snapshot());
+    }
+
+    /**
+     * Tests that listing a long list prints only the tasks on the page asked for, numbered as in the full list.
+     */
+    @Test
+    public void print_pages_onlyPageRowsPrinted() throws Exception {
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= 250; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        String firstPage = tasks.print();
+        assertTrue(firstPage.startsWith("Here are the tasks in your basket:\n1. [T][ ] task 1\n"));
+        assertTrue(firstPage.endsWith("100. [T][ ] task 100\nPage 1 of 3, showing items 1 to 100 of 250.\n"
+                + "Add \"--page 2\" to your command to see the next page.\n"));
+        assertEquals("Here are the tasks in your basket:\n249. [T][ ] task 249\n250. [T][ ] task 250\n"
+                + "Page 125 of 125, showing items 249 to 250 of 250.\n", tasks.print(new Page(125, 2)));
+        assertEquals("There is no page 4. There are only 3 page(s) of items.", tasks.print(new Page(4, 100)));
+
+        StringBuilder sb = new StringBuilder();
+        tasks.render(sb, new Page(3, 60));
+        assertEquals(60, sb.toString().split("\n").length);
+        assertTrue(sb.toString().startsWith("121. [T][ ] task 121\n"));
+
+        tasks.markIsDone(0);
+        tasks.markIsDone(200);
+        assertEquals("Here are the done tasks in your basket:\n201. [T][X] task 201\n"
+                + "Page 2 of 2, showing items 2 to 2 of 2.\n", tasks.printByStatus(true, new Page(2, 1)));
+    }
+
+    /**
+     * Tests that the commands that only read the tasks stop when the calling thread is interrupted,
+     * including the ones that build an index first, and that they work again once it is not.
+     */
+    @Test
+    public void readOnlyCommands_interrupted_cancelled() {
+        TaskList tasks = new TaskList();
+        LocalDate date = LocalDate.of(2024, 11, 11);
+        for (int i = 0; i < 3000; i++) {
+            tasks.add(new Event("show " + i, date.plusDays(i % 3), date.plusDays(i % 3)));
+        }
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> tasks.getStats());
+            assertThrows(CancellationException.class, () -> tasks.printByStatus(false, new Page(3, 1000)));
+            assertThrows(CancellationException.class, () -> tasks.findAllMatch("show"));
+            assertThrows(CancellationException.class, () -> tasks.findRange(date, date.plusDays(2)));
+            assertThrows(CancellationException.class, () -> tasks.findActive(date));
+            assertThrows(CancellationException.class, () -> tasks.print(new Page(2, 1000)));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals("You have 3000 task(s) in your basket.\n0 done, 3000 pending.", tasks.getStats());
+        assertTrue(tasks.findActive(date).contains("Page 1 of 10, showing items 1 to 100 of 1000."));
+    }
+}
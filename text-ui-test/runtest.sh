@@ -12,15 +12,22 @@ then
     rm ACTUAL.TXT
 fi
 
-# compile the code into the bin folder, terminates if error occurred
-if ! javac -cp ../src/main/java -Xlint:none -d ../bin ../src/main/java/*.java
+# delete the tasks stored by the previous run, so that every run starts with an empty basket
+if [ -d "./botanicData" ]
+then
+    rm -r ./botanicData
+fi
+
+# compile the command line entry point and the classes it uses into the bin folder, terminates if error occurred
+# (the JavaFX window classes are not compiled, so no JavaFX library is needed)
+if ! javac -sourcepath ../src/main/java -Xlint:none -d ../bin ../src/main/java/botanic/Cli.java
 then
     echo "********** BUILD FAILURE **********"
     exit 1
 fi
 
 # run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ../bin Duke < input.txt > ACTUAL.TXT
+java -classpath ../bin botanic.Cli < input.txt > ACTUAL.TXT
 
 # convert to UNIX format
 cp EXPECTED.TXT EXPECTED-UNIX.TXT